@@ -0,0 +1,5 @@
+package military.menu.review.application.like;
+
+public enum LikeAction {
+    LIKE, CANCEL
+}
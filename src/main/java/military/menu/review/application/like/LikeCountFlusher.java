@@ -0,0 +1,51 @@
+package military.menu.review.application.like;
+
+import military.menu.review.domain.menu.MenuDao;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+
+@Component
+public class LikeCountFlusher {
+    private final LikeCounter likeCounter;
+    private final MenuDao menuDao;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    @Value("${like.counter.flush.enabled}")
+    private boolean enabled;
+
+    public LikeCountFlusher(LikeCounter likeCounter, MenuDao menuDao, PlatformTransactionManager transactionManager,
+                            ApplicationEventPublisher eventPublisher) {
+        this.likeCounter = likeCounter;
+        this.menuDao = menuDao;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+    }
+
+    public int flush() {
+        return likeCounter.flush(deltas -> transactionTemplate.execute(status -> {
+            menuDao.addLikes(deltas);
+            eventPublisher.publishEvent(new LikeCountsFlushedEvent(deltas));
+            return null;
+        }));
+    }
+
+    @Scheduled(fixedDelayString = "${like.counter.flush.interval}")
+    public void scheduledFlush() {
+        if(enabled) {
+            flush();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        if(enabled) {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package military.menu.review.application.like;
+
+import military.menu.review.domain.meal.MealDto;
+import military.menu.review.domain.menu.Menu;
+import military.menu.review.domain.menu.MenuDto;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+@Component
+public class LikeCounter {
+    private static final int MAX_READ_ATTEMPTS = 3;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public void add(Long menuId, long delta) {
+        Map<Long, Long> local = local(true);
+        if(local == null) {
+            adder(menuId).add(delta);
+            return;
+        }
+        local.merge(menuId, delta, Long::sum);
+    }
+
+    public long pending(Long menuId) {
+        LongAdder adder = pending.get(menuId);
+        Map<Long, Long> local = local(false);
+        return (adder == null ? 0 : adder.sum()) + (local == null ? 0 : local.getOrDefault(menuId, 0L));
+    }
+
+    public long likes(Menu menu) {
+        return menu.getLike() + pending(menu.getId());
+    }
+
+    public MenuDto merge(MenuDto menu) {
+        menu.setLike(menu.getLike() + pending(menu.getId()));
+        return menu;
+    }
+
+    public MealDto merge(MealDto meal) {
+        meal.getMenus().forEach(this::merge);
+        return meal;
+    }
+
+    public <T> T read(Supplier<T> query) {
+        for(int attempt = 1; attempt < MAX_READ_ATTEMPTS; attempt++) {
+            long before = sequence.get();
+            T result = query.get();
+            if((before & 1) == 0 && before == sequence.get()) {
+                return result;
+            }
+        }
+
+        synchronized(this) {
+            return query.get();
+        }
+    }
+
+    public synchronized int flush(Consumer<Map<Long, Long>> writer) {
+        Map<Long, Long> committed = new HashMap<>();
+        pending.forEach((menuId, adder) -> {
+            long delta = adder.sum();
+            if(delta != 0) {
+                committed.put(menuId, delta);
+            }
+        });
+        Map<Long, Long> local = local(false);
+        if(committed.isEmpty() && (local == null || local.isEmpty())) {
+            return 0;
+        }
+
+        Map<Long, Long> deltas = new HashMap<>(committed);
+        if(local != null) {
+            local.forEach((menuId, delta) -> deltas.merge(menuId, delta, Long::sum));
+        }
+        deltas.values().removeIf(delta -> delta == 0);
+
+        sequence.incrementAndGet();
+        try {
+            if(!deltas.isEmpty()) {
+                writer.accept(deltas);
+            }
+            committed.forEach((menuId, delta) -> pending.get(menuId).add(-delta));
+            if(local != null) {
+                local.clear();
+            }
+        } finally {
+            sequence.incrementAndGet();
+        }
+
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if(status == STATUS_ROLLED_BACK) {
+                        committed.forEach((menuId, delta) -> adder(menuId).add(delta));
+                    }
+                }
+            });
+        }
+        return deltas.size();
+    }
+
+    private LongAdder adder(Long menuId) {
+        return pending.computeIfAbsent(menuId, id -> new LongAdder());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Long> local(boolean create) {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+
+        Map<Long, Long> local = (Map<Long, Long>) TransactionSynchronizationManager.getResource(this);
+        if(local == null && create) {
+            local = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, local);
+            TransactionSynchronizationManager.registerSynchronization(new LocalDeltas(local));
+        }
+        return local;
+    }
+
+    private class LocalDeltas implements TransactionSynchronization {
+        private final Map<Long, Long> deltas;
+
+        private LocalDeltas(Map<Long, Long> deltas) {
+            this.deltas = deltas;
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(LikeCounter.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(LikeCounter.this, deltas);
+        }
+
+        @Override
+        public void afterCommit() {
+            deltas.forEach((menuId, delta) -> adder(menuId).add(delta));
+            deltas.clear();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(LikeCounter.this);
+        }
+    }
+}
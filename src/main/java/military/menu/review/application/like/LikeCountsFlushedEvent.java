@@ -0,0 +1,12 @@
+package military.menu.review.application.like;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+@Getter
+@RequiredArgsConstructor
+public class LikeCountsFlushedEvent {
+    private final Map<Long, Long> deltas;
+}
@@ -0,0 +1,5 @@
+package military.menu.review.application.like;
+
+public enum LikeResult {
+    LIKED, ALREADY_LIKED, CANCELED, NOT_LIKED, MENU_NOT_FOUND
+}
@@ -4,45 +4,86 @@ import lombok.RequiredArgsConstructor;
 import military.menu.review.application.like.exception.LikeIsAlreadyExistException;
 import military.menu.review.application.like.exception.LikeIsNotExistException;
 import military.menu.review.domain.like.Like;
-import military.menu.review.domain.like.LikeRepository;
+import military.menu.review.domain.like.LikeDao;
 import military.menu.review.domain.member.Member;
 import military.menu.review.domain.menu.Menu;
 import military.menu.review.domain.menu.MenuRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.*;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class LikeService {
-    private final LikeRepository likeRepository;
+    private final LikeDao likeDao;
     private final MenuRepository menuRepository;
+    private final LikeCounter likeCounter;
+    private final LikedMenus likedMenus;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Like like(Member member, Menu menu) {
-        if(likeRepository.findByMemberAndMenu(member, menu) != null) {
-            throw new LikeIsAlreadyExistException(member.getId(), menu.getId());
-        }
+        LocalDateTime dateTime = LocalDateTime.now();
+        Long likeId = likeDao.insertIfAbsent(member.getId(), menu.getId(), dateTime)
+                .orElseThrow(() -> new LikeIsAlreadyExistException(member.getId(), menu.getId()));
 
-        Like like = Like.builder()
+        changed(member.getId(), menu.getId(), 1);
+        return Like.builder()
+                .id(likeId)
                 .member(member)
                 .menu(menu)
-                .dateTime(LocalDateTime.now())
+                .dateTime(dateTime)
                 .build();
-        menu.like();
-        likeRepository.save(like);
-        menuRepository.save(menu);
-        return like;
     }
 
     public void cancel(Member member, Menu menu) {
-        if(likeRepository.findByMemberAndMenu(member, menu) == null) {
+        if(likeDao.delete(member.getId(), menu.getId()) == 0) {
             throw new LikeIsNotExistException(member.getId(), menu.getId());
         }
 
-        menu.unlike();
-        likeRepository.deleteByMemberAndMenu(member, menu);
-        menuRepository.save(menu);
+        changed(member.getId(), menu.getId(), -1);
+    }
+
+    public Map<Long, LikeResult> apply(Member member, Map<Long, LikeAction> operations) {
+        Set<Long> existingMenuIds = menuRepository.findIdsByIdIn(operations.keySet());
+        List<Long> likeMenuIds = new ArrayList<>();
+        List<Long> cancelMenuIds = new ArrayList<>();
+        operations.forEach((menuId, action) -> {
+            if(existingMenuIds.contains(menuId)) {
+                (action == LikeAction.LIKE ? likeMenuIds : cancelMenuIds).add(menuId);
+            }
+        });
+
+        Set<Long> liked = likeMenuIds.isEmpty() ? Collections.emptySet()
+                : likeDao.insertAllIfAbsent(member.getId(), likeMenuIds, LocalDateTime.now());
+        Set<Long> canceled = cancelMenuIds.isEmpty() ? Collections.emptySet()
+                : likeDao.deleteAll(member.getId(), cancelMenuIds);
+        liked.forEach(menuId -> changed(member.getId(), menuId, 1));
+        canceled.forEach(menuId -> changed(member.getId(), menuId, -1));
+
+        Map<Long, LikeResult> results = new LinkedHashMap<>();
+        operations.forEach((menuId, action) -> {
+            if(!existingMenuIds.contains(menuId)) {
+                results.put(menuId, LikeResult.MENU_NOT_FOUND);
+            } else if(action == LikeAction.LIKE) {
+                results.put(menuId, liked.contains(menuId) ? LikeResult.LIKED : LikeResult.ALREADY_LIKED);
+            } else {
+                results.put(menuId, canceled.contains(menuId) ? LikeResult.CANCELED : LikeResult.NOT_LIKED);
+            }
+        });
+        return results;
+    }
+
+    private void changed(Long memberId, Long menuId, long delta) {
+        likeCounter.add(menuId, delta);
+        if(delta > 0) {
+            likedMenus.like(memberId, menuId);
+        } else {
+            likedMenus.cancel(memberId, menuId);
+        }
+        eventPublisher.publishEvent(new MenuLikeChangedEvent(memberId, menuId, delta));
     }
 }
@@ -0,0 +1,47 @@
+package military.menu.review.application.like;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+public final class LikedMenuIds {
+    public static final LikedMenuIds EMPTY = new LikedMenuIds(new long[0]);
+
+    private final long[] ids;
+
+    private LikedMenuIds(long[] ids) {
+        this.ids = ids;
+    }
+
+    public static LikedMenuIds of(Collection<Long> menuIds) {
+        long[] ids = menuIds.stream().filter(Objects::nonNull).mapToLong(Long::longValue).sorted().distinct().toArray();
+        return new LikedMenuIds(ids);
+    }
+
+    public boolean contains(Long menuId) {
+        return menuId != null && Arrays.binarySearch(ids, menuId) >= 0;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    LikedMenuIds with(Long menuId, boolean liked) {
+        int index = Arrays.binarySearch(ids, menuId);
+        if((index >= 0) == liked) {
+            return this;
+        }
+
+        long[] updated = new long[liked ? ids.length + 1 : ids.length - 1];
+        if(liked) {
+            int insertion = -index - 1;
+            System.arraycopy(ids, 0, updated, 0, insertion);
+            updated[insertion] = menuId;
+            System.arraycopy(ids, insertion, updated, insertion + 1, ids.length - insertion);
+        } else {
+            System.arraycopy(ids, 0, updated, 0, index);
+            System.arraycopy(ids, index + 1, updated, index, ids.length - index - 1);
+        }
+        return new LikedMenuIds(updated);
+    }
+}
@@ -0,0 +1,79 @@
+package military.menu.review.application.like;
+
+import military.menu.review.domain.like.LikeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class LikedMenus {
+    private final LikeRepository likeRepository;
+    private final Map<Long, LikedMenuIds> likedMenuIds;
+    private final AtomicLong generation = new AtomicLong();
+
+    public LikedMenus(LikeRepository likeRepository, @Value("${like.likedMenus.members}") int members) {
+        this.likeRepository = likeRepository;
+        this.likedMenuIds = Collections.synchronizedMap(new LinkedHashMap<Long, LikedMenuIds>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, LikedMenuIds> eldest) {
+                return size() > members;
+            }
+        });
+    }
+
+    public LikedMenuIds get(Long memberId) {
+        if(memberId == null) {
+            return LikedMenuIds.EMPTY;
+        }
+
+        LikedMenuIds menuIds = likedMenuIds.get(memberId);
+        if(menuIds != null) {
+            return menuIds;
+        }
+
+        long currentGeneration = generation.get();
+        menuIds = LikedMenuIds.of(likeRepository.findMenuIdsByMemberId(memberId));
+        if(generation.get() == currentGeneration && likedMenuIds.putIfAbsent(memberId, menuIds) == null
+                && generation.get() != currentGeneration) {
+            likedMenuIds.remove(memberId, menuIds);
+        }
+        return menuIds;
+    }
+
+    public void like(Long memberId, Long menuId) {
+        change(memberId, menuId, true);
+    }
+
+    public void cancel(Long memberId, Long menuId) {
+        change(memberId, menuId, false);
+    }
+
+    private void change(Long memberId, Long menuId, boolean liked) {
+        apply(memberId, menuId, liked);
+
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if(status == STATUS_COMMITTED) {
+                        apply(memberId, menuId, liked);
+                    } else {
+                        generation.incrementAndGet();
+                        likedMenuIds.remove(memberId);
+                    }
+                }
+            });
+        }
+    }
+
+    private void apply(Long memberId, Long menuId, boolean liked) {
+        generation.incrementAndGet();
+        likedMenuIds.computeIfPresent(memberId, (id, menuIds) -> menuIds.with(menuId, liked));
+    }
+}
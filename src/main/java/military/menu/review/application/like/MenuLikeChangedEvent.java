@@ -0,0 +1,12 @@
+package military.menu.review.application.like;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class MenuLikeChangedEvent {
+    private final Long memberId;
+    private final Long menuId;
+    private final long delta;
+}
@@ -0,0 +1,110 @@
+package military.menu.review.application.meal;
+
+import military.menu.review.application.like.LikedMenuIds;
+import military.menu.review.application.like.LikedMenus;
+import military.menu.review.application.like.MenuLikeChangedEvent;
+import military.menu.review.domain.meal.MealDao;
+import military.menu.review.domain.meal.MealDto;
+import military.menu.review.domain.member.Member;
+import military.menu.review.domain.menu.MenuDto;
+import military.menu.review.mnd.sync.MndImportedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Component
+public class WeeklyMealCache {
+    private final MealDao mealDao;
+    private final LikedMenus likedMenus;
+    private final boolean enabled;
+    private final Map<LocalDate, WeekSnapshot> snapshots;
+    private final AtomicLong generation = new AtomicLong();
+
+    public WeeklyMealCache(MealDao mealDao, LikedMenus likedMenus,
+                           @Value("${meal.cache.enabled}") boolean enabled, @Value("${meal.cache.weeks}") int weeks) {
+        this.mealDao = mealDao;
+        this.likedMenus = likedMenus;
+        this.enabled = enabled;
+        this.snapshots = Collections.synchronizedMap(new LinkedHashMap<LocalDate, WeekSnapshot>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<LocalDate, WeekSnapshot> eldest) {
+                return size() > weeks;
+            }
+        });
+    }
+
+    public List<MealDto> findWeek(LocalDate firstDate, LocalDate lastDate, Member member) {
+        if(!enabled) {
+            return mealDao.selectByDateBetweenWithIsLiked(firstDate, lastDate, member);
+        }
+
+        List<MealDto> meals = getSnapshot(firstDate, lastDate).meals;
+        return member == null ? meals : overlay(meals, likedMenus.get(member.getId()));
+    }
+
+    @EventListener
+    public void evictImmediately(MenuLikeChangedEvent event) {
+        evict(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evictAfterCommit(MenuLikeChangedEvent event) {
+        evict(event);
+    }
+
+    @EventListener
+    public void evictAll(MndImportedEvent event) {
+        generation.incrementAndGet();
+        snapshots.clear();
+    }
+
+    private void evict(MenuLikeChangedEvent event) {
+        generation.incrementAndGet();
+        synchronized(snapshots) {
+            snapshots.values().removeIf(snapshot -> snapshot.menuIds.contains(event.getMenuId()));
+        }
+    }
+
+    private WeekSnapshot getSnapshot(LocalDate firstDate, LocalDate lastDate) {
+        WeekSnapshot snapshot = snapshots.get(firstDate);
+        if(snapshot != null) {
+            return snapshot;
+        }
+
+        long currentGeneration = generation.get();
+        snapshot = new WeekSnapshot(mealDao.selectByDateBetween(firstDate, lastDate));
+        if(generation.get() == currentGeneration && snapshots.putIfAbsent(firstDate, snapshot) == null
+                && generation.get() != currentGeneration) {
+            snapshots.remove(firstDate, snapshot);
+        }
+        return snapshot;
+    }
+
+    private List<MealDto> overlay(List<MealDto> meals, LikedMenuIds likedMenuIds) {
+        return meals.stream()
+                .map(meal -> new MealDto(meal.getId(), meal.getDate(), meal.getMealType(), meal.getMenus().stream()
+                        .map(menu -> new MenuDto(menu.getId(), menu.getName(), menu.getKcal(), menu.getLike(), likedMenuIds.contains(menu.getId()), true))
+                        .collect(Collectors.toList())))
+                .collect(Collectors.toList());
+    }
+
+    private static class WeekSnapshot {
+        private final List<MealDto> meals;
+        private final Set<Long> menuIds;
+
+        private WeekSnapshot(List<MealDto> meals) {
+            this.meals = Collections.unmodifiableList(meals);
+            this.menuIds = meals.stream()
+                    .flatMap(meal -> meal.getMenus().stream())
+                    .map(MenuDto::getId)
+                    .collect(Collectors.toSet());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package military.menu.review.application.menu;
+
+import military.menu.review.domain.menu.MenuRepository;
+import military.menu.review.mnd.sync.MndImportedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MenuCounter {
+    private final MenuRepository menuRepository;
+    private final long ttl;
+    private volatile Snapshot snapshot;
+
+    public MenuCounter(MenuRepository menuRepository, @Value("${menu.count.ttl:60000}") long ttl) {
+        this.menuRepository = menuRepository;
+        this.ttl = ttl;
+    }
+
+    public long count() {
+        Snapshot current = snapshot;
+        long now = System.currentTimeMillis();
+        if(current != null && now < current.expiresAt) {
+            return current.count;
+        }
+
+        long count = menuRepository.count();
+        snapshot = new Snapshot(count, now + ttl);
+        return count;
+    }
+
+    @EventListener
+    public void evict(MndImportedEvent event) {
+        snapshot = null;
+    }
+
+    private static class Snapshot {
+        private final long count;
+        private final long expiresAt;
+
+        private Snapshot(long count, long expiresAt) {
+            this.count = count;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package military.menu.review.application.menu;
+
+import military.menu.review.application.like.LikeCounter;
+import military.menu.review.application.like.MenuLikeChangedEvent;
+import military.menu.review.domain.meal.MealType;
+import military.menu.review.domain.meal.SelectedMenuRepository;
+import military.menu.review.domain.menu.Menu;
+import military.menu.review.domain.menu.MenuDao;
+import military.menu.review.domain.menu.MenuDto;
+import military.menu.review.domain.menu.MenuRepository;
+import military.menu.review.mnd.sync.MndImportedEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class MenuLeaderboard {
+    private static final Comparator<Entry> ORDER = Comparator.comparingLong((Entry entry) -> entry.likes).reversed()
+            .thenComparingLong(entry -> entry.menuId);
+
+    private final MenuRepository menuRepository;
+    private final SelectedMenuRepository selectedMenuRepository;
+    private final MenuDao menuDao;
+    private final LikeCounter likeCounter;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object updates = new Object();
+    private Rankings rankings = new Rankings();
+    private Set<Long> updatedDuringRebuild;
+
+    public MenuLeaderboard(MenuRepository menuRepository, SelectedMenuRepository selectedMenuRepository, MenuDao menuDao,
+                           LikeCounter likeCounter) {
+        this.menuRepository = menuRepository;
+        this.selectedMenuRepository = selectedMenuRepository;
+        this.menuDao = menuDao;
+        this.likeCounter = likeCounter;
+    }
+
+    public List<MenuDto> top(int size) {
+        lock.readLock().lock();
+        try {
+            return rankings.global.top(size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<MenuDto> top(MealType mealType, int size) {
+        lock.readLock().lock();
+        try {
+            return rankings.byMealType.get(mealType).top(size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener({ApplicationStartedEvent.class, MndImportedEvent.class})
+    public synchronized void rebuild() {
+        synchronized(updates) {
+            updatedDuringRebuild = new HashSet<>();
+        }
+        try {
+            Rankings rebuilt = likeCounter.read(this::build);
+            synchronized(updates) {
+                List<MenuDto> updated = updatedDuringRebuild.isEmpty() ? Collections.emptyList()
+                        : menuDao.selectByIdsWithIsLiked(updatedDuringRebuild, null);
+                lock.writeLock().lock();
+                try {
+                    updated.forEach(menu -> rebuilt.set(menu.getId(), menu.getLike()));
+                    rankings = rebuilt;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        } finally {
+            synchronized(updates) {
+                updatedDuringRebuild = null;
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void update(MenuLikeChangedEvent event) {
+        synchronized(updates) {
+            List<MenuDto> menus = menuDao.selectByIdsWithIsLiked(Collections.singleton(event.getMenuId()), null);
+            lock.writeLock().lock();
+            try {
+                menus.forEach(menu -> rankings.set(menu.getId(), menu.getLike()));
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if(updatedDuringRebuild != null) {
+                updatedDuringRebuild.add(event.getMenuId());
+            }
+        }
+    }
+
+    private Rankings build() {
+        Rankings rebuilt = new Rankings();
+        for(Menu menu : menuRepository.findAll()) {
+            Entry entry = new Entry(menu.getId(), menu.getName(), menu.getKcal() == null ? 0 : menu.getKcal(), likeCounter.likes(menu));
+            rebuilt.entries.put(entry.menuId, entry);
+            rebuilt.global.add(entry);
+        }
+        for(Object[] row : selectedMenuRepository.findMenuIdsAndMealTypes()) {
+            Entry entry = rebuilt.entries.get((Long) row[0]);
+            MealType mealType = (MealType) row[1];
+            rebuilt.mealTypes.computeIfAbsent(entry.menuId, id -> EnumSet.noneOf(MealType.class)).add(mealType);
+            rebuilt.byMealType.get(mealType).add(entry);
+        }
+        return rebuilt;
+    }
+
+    private static class Rankings {
+        private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+        private final Map<Long, Set<MealType>> mealTypes = new ConcurrentHashMap<>();
+        private final Ranking global = new Ranking();
+        private final Map<MealType, Ranking> byMealType = new EnumMap<>(MealType.class);
+
+        private Rankings() {
+            for(MealType mealType : MealType.values()) {
+                byMealType.put(mealType, new Ranking());
+            }
+        }
+
+        private void set(Long menuId, long likes) {
+            Entry entry = entries.get(menuId);
+            if(entry == null || entry.likes == likes) {
+                return;
+            }
+
+            Entry updated = new Entry(entry.menuId, entry.name, entry.kcal, likes);
+            entries.put(menuId, updated);
+            global.replace(entry, updated);
+            for(MealType mealType : mealTypes.getOrDefault(menuId, Collections.emptySet())) {
+                byMealType.get(mealType).replace(entry, updated);
+            }
+        }
+    }
+
+    private static class Ranking {
+        private final ConcurrentSkipListSet<Entry> entries = new ConcurrentSkipListSet<>(ORDER);
+
+        private void add(Entry entry) {
+            entries.add(entry);
+        }
+
+        private void replace(Entry entry, Entry updated) {
+            entries.remove(entry);
+            entries.add(updated);
+        }
+
+        private List<MenuDto> top(int size) {
+            List<MenuDto> result = new ArrayList<>(size);
+            Iterator<Entry> iterator = entries.iterator();
+            while(result.size() < size && iterator.hasNext()) {
+                result.add(iterator.next().toDto());
+            }
+            return result;
+        }
+    }
+
+    private static class Entry {
+        private final long menuId;
+        private final String name;
+        private final double kcal;
+        private final long likes;
+
+        private Entry(long menuId, String name, double kcal, long likes) {
+            this.menuId = menuId;
+            this.name = name;
+            this.kcal = kcal;
+            this.likes = likes;
+        }
+
+        private MenuDto toDto() {
+            return MenuDto.builder()
+                    .id(menuId)
+                    .name(name)
+                    .kcal(kcal)
+                    .like(likes)
+                    .build();
+        }
+    }
+}
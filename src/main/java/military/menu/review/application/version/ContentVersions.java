@@ -0,0 +1,119 @@
+package military.menu.review.application.version;
+
+import military.menu.review.application.like.MenuLikeChangedEvent;
+import military.menu.review.domain.member.Member;
+import military.menu.review.mnd.sync.MndImportedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.SecureRandom;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class ContentVersions {
+    private final String nonce = Long.toString(new SecureRandom().nextLong() & Long.MAX_VALUE, 36);
+    private final AtomicLong importVersion = new AtomicLong();
+    private final AtomicLong likeSequence = new AtomicLong();
+    private final Map<Long, AtomicLong> menuVersions = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> memberVersions = new ConcurrentHashMap<>();
+    private final Map<String, Registration> registrations = new ConcurrentHashMap<>();
+
+    public Stamp stamp() {
+        return new Stamp(importVersion.get(), likeSequence.get());
+    }
+
+    public void register(String key, Stamp stamp, Collection<Long> menuIds) {
+        if(stamp.importVersion != importVersion.get()) {
+            return;
+        }
+
+        registrations.put(key, new Registration(stamp.importVersion, menuIds.stream().mapToLong(Long::longValue).distinct().toArray()));
+        if(stamp.importVersion != importVersion.get()) {
+            registrations.remove(key);
+        }
+    }
+
+    public Optional<String> tag(String key, Member member) {
+        Registration registration = registrations.get(key);
+        if(registration == null || registration.importVersion != importVersion.get()) {
+            return Optional.empty();
+        }
+
+        long menuVersion = 0;
+        for(long menuId : registration.menuIds) {
+            menuVersion += version(menuVersions, menuId);
+        }
+        return Optional.of(format(key + "-" + registration.importVersion + "-" + menuVersion, member));
+    }
+
+    public Optional<String> tag(String key, Stamp stamp, Member member) {
+        return stamp.likeSequence == likeSequence.get() ? tag(key, member) : Optional.empty();
+    }
+
+    public String menuTag(Long menuId, Member member) {
+        return format("menu" + menuId + "-" + version(menuVersions, menuId), member);
+    }
+
+    public Optional<String> menuTag(Long menuId, Stamp stamp, Member member) {
+        String tag = menuTag(menuId, member);
+        return stamp.likeSequence == likeSequence.get() ? Optional.of(tag) : Optional.empty();
+    }
+
+    @EventListener
+    public void bumpImmediately(MenuLikeChangedEvent event) {
+        bump(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void bumpAfterCommit(MenuLikeChangedEvent event) {
+        bump(event);
+    }
+
+    @EventListener
+    public void bumpAll(MndImportedEvent event) {
+        importVersion.incrementAndGet();
+        registrations.clear();
+    }
+
+    private void bump(MenuLikeChangedEvent event) {
+        likeSequence.incrementAndGet();
+        menuVersions.computeIfAbsent(event.getMenuId(), id -> new AtomicLong()).incrementAndGet();
+        memberVersions.computeIfAbsent(event.getMemberId(), id -> new AtomicLong()).incrementAndGet();
+    }
+
+    private String format(String content, Member member) {
+        String memberPart = member == null ? "anonymous" : member.getId() + "." + version(memberVersions, member.getId());
+        return "\"" + nonce + "-" + content + "-" + memberPart + "\"";
+    }
+
+    private long version(Map<Long, AtomicLong> versions, long id) {
+        AtomicLong version = versions.get(id);
+        return version == null ? 0 : version.get();
+    }
+
+    public static class Stamp {
+        private final long importVersion;
+        private final long likeSequence;
+
+        private Stamp(long importVersion, long likeSequence) {
+            this.importVersion = importVersion;
+            this.likeSequence = likeSequence;
+        }
+    }
+
+    private static class Registration {
+        private final long importVersion;
+        private final long[] menuIds;
+
+        private Registration(long importVersion, long[] menuIds) {
+            this.importVersion = importVersion;
+            this.menuIds = menuIds;
+        }
+    }
+}
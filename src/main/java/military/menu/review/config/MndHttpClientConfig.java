@@ -0,0 +1,49 @@
+package military.menu.review.config;
+
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class MndHttpClientConfig {
+    @Value("${mnd.http.maxConnections}")
+    private int maxConnections;
+    @Value("${mnd.http.connectTimeout}")
+    private int connectTimeout;
+    @Value("${mnd.http.readTimeout}")
+    private int readTimeout;
+    @Value("${mnd.http.connectionRequestTimeout}")
+    private int connectionRequestTimeout;
+
+    @Bean
+    public RestTemplate mndRestTemplate() {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(mndHttpClient()));
+    }
+
+    private HttpClient mndHttpClient() {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(connectTimeout)
+                .setSocketTimeout(readTimeout)
+                .setConnectionRequestTimeout(connectionRequestTimeout)
+                .build();
+
+        return HttpClientBuilder.create()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .disableContentCompression()
+                .evictIdleConnections(30, TimeUnit.SECONDS)
+                .build();
+    }
+}
@@ -3,6 +3,7 @@ package military.menu.review.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import military.menu.review.domain.member.MemberRepository;
+import military.menu.review.domain.member.MemberType;
 import military.menu.review.security.JWTUtils;
 import military.menu.review.security.JwtLoginFilter;
 import military.menu.review.security.JwtTokenCheckFilter;
@@ -45,6 +46,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                 .antMatchers(HttpMethod.POST, "/menu/*/likes", "/meals/*/reviews").authenticated()
                 .antMatchers(HttpMethod.DELETE, "/menu/*/cancel-like", "/meals/*/reviews/*").authenticated()
                 .antMatchers(HttpMethod.PUT, "/meals/*/reviews/*").authenticated()
+                .antMatchers("/actuator/metrics", "/actuator/metrics/**").hasAuthority(MemberType.ADMIN.name())
                 .anyRequest().permitAll();
 
         http.cors().and()
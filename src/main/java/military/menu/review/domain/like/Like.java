@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Getter
-@Table(name="Likes")
+@Table(name="Likes", uniqueConstraints = @UniqueConstraint(name = "uk_likes_member_menu", columnNames = {"member_id", "menu_id"}),
+        indexes = @Index(name = "idx_likes_menu_date_time", columnList = "menu_id, date_time, id"))
 @Builder @NoArgsConstructor @AllArgsConstructor
 public class Like {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -23,5 +24,6 @@ public class Like {
     @ManyToOne
     @JoinColumn(name="member_id")
     private Member member;
+    @Column(name="date_time")
     private LocalDateTime dateTime;
 }
@@ -0,0 +1,50 @@
+package military.menu.review.domain.like;
+
+import lombok.Getter;
+import military.menu.review.domain.like.exception.InvalidLikeCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+@Getter
+public class LikeCursor {
+    private static final String SEPARATOR = "|";
+    private static final LikeCursor FIRST = new LikeCursor(null, null);
+
+    private final LocalDateTime dateTime;
+    private final Long id;
+
+    private LikeCursor(LocalDateTime dateTime, Long id) {
+        this.dateTime = dateTime;
+        this.id = id;
+    }
+
+    public static LikeCursor first() {
+        return FIRST;
+    }
+
+    public static LikeCursor next(LikeDto last) {
+        return new LikeCursor(last.getDateTime(), last.getId());
+    }
+
+    public boolean isFirst() {
+        return id == null;
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, String.valueOf(id), dateTime.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static LikeCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 2);
+            return new LikeCursor(LocalDateTime.parse(parts[1]), Long.parseLong(parts[0]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidLikeCursorException(cursor);
+        }
+    }
+}
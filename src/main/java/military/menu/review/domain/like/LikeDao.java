@@ -0,0 +1,15 @@
+package military.menu.review.domain.like;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public interface LikeDao {
+    Optional<Long> insertIfAbsent(Long memberId, Long menuId, LocalDateTime dateTime);
+    int delete(Long memberId, Long menuId);
+    Set<Long> insertAllIfAbsent(Long memberId, Collection<Long> menuIds, LocalDateTime dateTime);
+    Set<Long> deleteAll(Long memberId, Collection<Long> menuIds);
+    List<LikeDto> selectByMenuId(Long menuId, LikeCursor cursor, int size);
+}
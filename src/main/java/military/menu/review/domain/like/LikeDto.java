@@ -0,0 +1,13 @@
+package military.menu.review.domain.like;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter @Setter @AllArgsConstructor @NoArgsConstructor @Builder
+public class LikeDto {
+    private Long id;
+    private Long memberId;
+    private Long menuId;
+    private LocalDateTime dateTime;
+}
@@ -5,9 +5,16 @@ import military.menu.review.domain.menu.Menu;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Set;
 
 public interface LikeRepository extends JpaRepository<Like, Long>{
-    void deleteByMemberAndMenu(Member member, Menu menu);
     Like findByMemberAndMenu(Member member, Menu menu);
-    Page<Like> findAllByMenu(Menu menu, Pageable pageable);
+    @Query(value = "select new military.menu.review.domain.like.LikeDto(l.id, l.member.id, l.menu.id, l.dateTime) from Like l where l.menu.id = :menuId",
+            countQuery = "select count(l) from Like l where l.menu.id = :menuId")
+    Page<LikeDto> findDtosByMenuId(@Param("menuId") Long menuId, Pageable pageable);
+    @Query("select l.menu.id from Like l where l.member.id = :memberId")
+    Set<Long> findMenuIdsByMemberId(@Param("memberId") Long memberId);
 }
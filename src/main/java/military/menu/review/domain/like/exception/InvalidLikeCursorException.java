@@ -0,0 +1,7 @@
+package military.menu.review.domain.like.exception;
+
+public class InvalidLikeCursorException extends IllegalArgumentException {
+    public InvalidLikeCursorException(String cursor) {
+        super(String.format("잘못된 좋아요 커서입니다. cursor : %s", cursor));
+    }
+}
@@ -0,0 +1,22 @@
+package military.menu.review.domain.meal;
+
+import lombok.Getter;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+
+@Entity
+@Getter
+@Table(name = "daily_nutrition")
+public class DailyNutrition {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY) @Column(name="daily_nutrition_id")
+    private Long id;
+    @Column(unique = true, nullable = false)
+    private LocalDate date;
+    private double breakfastKcal;
+    private double lunchKcal;
+    private double dinnerKcal;
+    private double totalKcal;
+
+    protected DailyNutrition() {}
+}
@@ -0,0 +1,14 @@
+package military.menu.review.domain.meal;
+
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Getter @Setter @Builder @AllArgsConstructor @NoArgsConstructor
+public class DailyNutritionDto {
+    private LocalDate date;
+    private double breakfastKcal;
+    private double lunchKcal;
+    private double dinnerKcal;
+    private double totalKcal;
+}
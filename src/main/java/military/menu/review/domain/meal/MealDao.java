@@ -5,9 +5,14 @@ import military.menu.review.domain.member.Member;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface MealDao {
+    List<MealDto> selectByDateBetween(LocalDate start, LocalDate end);
+
     List<MealDto> selectByDateBetweenWithIsLiked(LocalDate start, LocalDate end, Member member);
 
+    void selectByDateBetweenWithIsLiked(LocalDate start, LocalDate end, Member member, Consumer<MealDto> consumer);
+
     MealDto selectByIdWithIsLiked(Long id, Member member);
 }
@@ -17,4 +17,8 @@ public class MealDto {
     public void addMenu(MenuDto menu) {
         menus.add(menu);
     }
+
+    public double getKcal() {
+        return menus.stream().mapToDouble(MenuDto::getKcal).sum();
+    }
 }
@@ -0,0 +1,28 @@
+package military.menu.review.domain.meal;
+
+import lombok.Getter;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+
+@Entity
+@Getter
+@Table(name = "meal_menu_view",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"meal_id", "menu_id"}),
+        indexes = @Index(name = "idx_meal_menu_view_date", columnList = "date, meal_type, name, meal_id, menu_id, kcal, likes"))
+public class MealMenuView {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY) @Column(name="meal_menu_view_id")
+    private Long id;
+    @Column(name="meal_id", nullable = false)
+    private Long mealId;
+    @Column(name="menu_id", nullable = false)
+    private Long menuId;
+    private LocalDate date;
+    @Enumerated(EnumType.STRING) @Column(name="meal_type")
+    private MealType mealType;
+    private String name;
+    private Double kcal;
+    private Long likes;
+
+    protected MealMenuView() {}
+}
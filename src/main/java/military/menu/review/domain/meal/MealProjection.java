@@ -0,0 +1,7 @@
+package military.menu.review.domain.meal;
+
+import java.util.Collection;
+
+public interface MealProjection {
+    void refresh(Collection<Long> mealIds);
+}
@@ -0,0 +1,8 @@
+package military.menu.review.domain.meal;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface NutritionDao {
+    List<DailyNutritionDto> selectDailyBetween(LocalDate start, LocalDate end);
+}
@@ -8,6 +8,7 @@ import java.util.List;
 
 @Entity
 @Setter @Getter
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"meal_id", "menu_id"}))
 public class SelectedMenu {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY) @Column(name="selected_menu_id")
     private Long id;
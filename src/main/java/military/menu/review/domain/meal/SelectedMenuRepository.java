@@ -1,6 +1,11 @@
 package military.menu.review.domain.meal;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface SelectedMenuRepository extends JpaRepository<SelectedMenu, Long> {
+    @Query("select distinct s.menu.id, s.meal.mealType from SelectedMenu s")
+    List<Object[]> findMenuIdsAndMealTypes();
 }
@@ -11,6 +11,10 @@ import java.util.Objects;
 @Entity
 @Getter
 @ToString
+@Table(indexes = {
+        @Index(name = "idx_menu_likes", columnList = "likes, menu_id"),
+        @Index(name = "idx_menu_kcal", columnList = "kcal, menu_id")
+})
 public class Menu {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY) @Column(name="menu_id")
     private Long id;
@@ -28,14 +32,6 @@ public class Menu {
         this.like = 0L;
     }
 
-    public void like() {
-        like++;
-    }
-
-    public void unlike() {
-        like--;
-    }
-
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,56 @@
+package military.menu.review.domain.menu;
+
+import lombok.Getter;
+import military.menu.review.domain.menu.exception.InvalidMenuCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+@Getter
+public class MenuCursor {
+    private static final String SEPARATOR = "|";
+
+    private final MenuSortPlan plan;
+    private final String value;
+    private final Long id;
+
+    private MenuCursor(MenuSortPlan plan, String value, Long id) {
+        this.plan = plan;
+        this.value = value;
+        this.id = id;
+    }
+
+    public static MenuCursor first(MenuSortPlan plan) {
+        return new MenuCursor(plan, null, null);
+    }
+
+    public MenuCursor next(MenuDto last) {
+        return new MenuCursor(plan, plan.getKey().valueOf(last), last.getId());
+    }
+
+    public boolean isFirst() {
+        return id == null;
+    }
+
+    public Object getKeyValue() {
+        return plan.getKey().parse(value);
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, plan.name(), String.valueOf(id), value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MenuCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 3);
+            MenuSortPlan plan = MenuSortPlan.valueOf(parts[0]);
+            String value = parts[2];
+            plan.getKey().parse(value);
+            return new MenuCursor(plan, value, Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new InvalidMenuCursorException(cursor);
+        }
+    }
+}
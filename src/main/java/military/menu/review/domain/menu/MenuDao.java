@@ -1,11 +1,14 @@
 package military.menu.review.domain.menu;
 
-import org.springframework.data.domain.Pageable;
-
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface MenuDao {
     Optional<MenuDto> selectByIdWithIsLiked(Long menuId, Long MemberId);
-    List<MenuDto> selectAllWithIsLiked(Pageable pageable, Long memberId);
+    List<MenuDto> selectByIdsWithIsLiked(Collection<Long> menuIds, Long memberId);
+    List<MenuDto> selectAllWithIsLiked(MenuSortPlan plan, long offset, int size, Long memberId);
+    List<MenuDto> selectAllWithIsLiked(MenuCursor cursor, int size, Long memberId);
+    void addLikes(Map<Long, Long> deltas);
 }
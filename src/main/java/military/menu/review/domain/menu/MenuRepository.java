@@ -1,10 +1,16 @@
 package military.menu.review.domain.menu;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface MenuRepository extends JpaRepository<Menu, Long> {
     Menu findByName(String name);
+    @Query("select m.id from Menu m where m.id in :ids")
+    Set<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,65 @@
+package military.menu.review.domain.menu;
+
+import java.util.Arrays;
+import java.util.List;
+
+public enum MenuSortKey {
+    NAME("menu.name", "name") {
+        @Override
+        String valueOf(MenuDto menu) {
+            return menu.getName();
+        }
+
+        @Override
+        Object parse(String value) {
+            return value;
+        }
+    },
+    LIKES("menu.likes", "likes", "like") {
+        @Override
+        String valueOf(MenuDto menu) {
+            return String.valueOf(menu.getLike());
+        }
+
+        @Override
+        Object parse(String value) {
+            return Long.parseLong(value);
+        }
+    },
+    KCAL("menu.kcal", "kcal") {
+        @Override
+        String valueOf(MenuDto menu) {
+            return String.valueOf(menu.getKcal());
+        }
+
+        @Override
+        Object parse(String value) {
+            return Double.parseDouble(value);
+        }
+    };
+
+    private final String column;
+    private final List<String> properties;
+
+    MenuSortKey(String column, String... properties) {
+        this.column = column;
+        this.properties = Arrays.asList(properties);
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    abstract String valueOf(MenuDto menu);
+
+    abstract Object parse(String value);
+
+    static MenuSortKey find(String property) {
+        for(MenuSortKey key : values()) {
+            if(key.properties.contains(property)) {
+                return key;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,51 @@
+package military.menu.review.domain.menu;
+
+import military.menu.review.domain.menu.exception.UnsupportedMenuSortException;
+import org.springframework.data.domain.Sort;
+
+public enum MenuSortPlan {
+    NAME_ASC(MenuSortKey.NAME, Sort.Direction.ASC),
+    NAME_DESC(MenuSortKey.NAME, Sort.Direction.DESC),
+    LIKES_ASC(MenuSortKey.LIKES, Sort.Direction.ASC),
+    LIKES_DESC(MenuSortKey.LIKES, Sort.Direction.DESC),
+    KCAL_ASC(MenuSortKey.KCAL, Sort.Direction.ASC),
+    KCAL_DESC(MenuSortKey.KCAL, Sort.Direction.DESC);
+
+    private final MenuSortKey key;
+    private final Sort.Direction direction;
+
+    MenuSortPlan(MenuSortKey key, Sort.Direction direction) {
+        this.key = key;
+        this.direction = direction;
+    }
+
+    public MenuSortKey getKey() {
+        return key;
+    }
+
+    public Sort.Direction getDirection() {
+        return direction;
+    }
+
+    public static MenuSortPlan of(Sort sort) {
+        if(sort.isUnsorted()) {
+            return NAME_ASC;
+        }
+
+        Sort.Order order = sort.iterator().next();
+        MenuSortKey key = MenuSortKey.find(order.getProperty());
+        if(key == null || sort.stream().count() > 1) {
+            throw new UnsupportedMenuSortException(sort.toString());
+        }
+        return of(key, order.getDirection());
+    }
+
+    static MenuSortPlan of(MenuSortKey key, Sort.Direction direction) {
+        for(MenuSortPlan plan : values()) {
+            if(plan.key == key && plan.direction == direction) {
+                return plan;
+            }
+        }
+        throw new UnsupportedMenuSortException(key + " " + direction);
+    }
+}
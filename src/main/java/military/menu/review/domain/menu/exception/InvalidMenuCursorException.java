@@ -0,0 +1,7 @@
+package military.menu.review.domain.menu.exception;
+
+public class InvalidMenuCursorException extends IllegalArgumentException {
+    public InvalidMenuCursorException(String cursor) {
+        super(String.format("잘못된 메뉴 커서입니다. cursor : %s", cursor));
+    }
+}
@@ -0,0 +1,7 @@
+package military.menu.review.domain.menu.exception;
+
+public class UnsupportedMenuSortException extends IllegalArgumentException {
+    public UnsupportedMenuSortException(String sort) {
+        super(String.format("지원하지 않는 메뉴 정렬입니다. sort : %s", sort));
+    }
+}
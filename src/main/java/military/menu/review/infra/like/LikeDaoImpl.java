@@ -0,0 +1,105 @@
+package military.menu.review.infra.like;
+
+import lombok.RequiredArgsConstructor;
+import military.menu.review.domain.like.LikeCursor;
+import military.menu.review.domain.like.LikeDao;
+import military.menu.review.domain.like.LikeDto;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Component
+@RequiredArgsConstructor
+public class LikeDaoImpl implements LikeDao {
+    private static final String INSERT = "insert into likes (member_id, menu_id, date_time) values (?, ?, ?)";
+    private static final String SELECT_BY_MENU_ID = "select id, member_id, menu_id, date_time from likes where menu_id = ? ";
+    private static final String ORDER_BY = "order by date_time desc, id desc limit ?";
+    private static final RowMapper<LikeDto> ROW_MAPPER = (rs, i) -> LikeDto.builder()
+            .id(rs.getLong("id"))
+            .memberId(rs.getLong("member_id"))
+            .menuId(rs.getLong("menu_id"))
+            .dateTime(rs.getTimestamp("date_time").toLocalDateTime())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<Long> insertIfAbsent(Long memberId, Long menuId, LocalDateTime dateTime) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        try {
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(INSERT, new String[]{"id"});
+                ps.setLong(1, memberId);
+                ps.setLong(2, menuId);
+                ps.setTimestamp(3, Timestamp.valueOf(dateTime));
+                return ps;
+            }, keyHolder);
+            return Optional.of(keyHolder.getKey().longValue());
+        } catch (DuplicateKeyException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public int delete(Long memberId, Long menuId) {
+        return jdbcTemplate.update("delete from likes where member_id = ? and menu_id = ?", memberId, menuId);
+    }
+
+    @Override
+    public Set<Long> insertAllIfAbsent(Long memberId, Collection<Long> menuIds, LocalDateTime dateTime) {
+        Set<Long> inserted = new LinkedHashSet<>();
+        for(Long menuId : menuIds) {
+            insertIfAbsent(memberId, menuId, dateTime).ifPresent(id -> inserted.add(menuId));
+        }
+        return inserted;
+    }
+
+    @Override
+    public Set<Long> deleteAll(Long memberId, Collection<Long> menuIds) {
+        List<Long> ids = new ArrayList<>(menuIds);
+        int[] counts = jdbcTemplate.batchUpdate("delete from likes where member_id = ? and menu_id = ?", new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, memberId);
+                ps.setLong(2, ids.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return ids.size();
+            }
+        });
+        return affected(ids, counts);
+    }
+
+    @Override
+    public List<LikeDto> selectByMenuId(Long menuId, LikeCursor cursor, int size) {
+        if(cursor.isFirst()) {
+            return jdbcTemplate.query(SELECT_BY_MENU_ID + ORDER_BY, ROW_MAPPER, menuId, size);
+        }
+
+        Timestamp dateTime = Timestamp.valueOf(cursor.getDateTime());
+        return jdbcTemplate.query(SELECT_BY_MENU_ID + "and (date_time < ? or (date_time = ? and id < ?)) " + ORDER_BY,
+                ROW_MAPPER, menuId, dateTime, dateTime, cursor.getId(), size);
+    }
+
+    private Set<Long> affected(List<Long> ids, int[] counts) {
+        Set<Long> affected = new LinkedHashSet<>();
+        for(int i = 0; i < counts.length; i++) {
+            if(counts[i] > 0) {
+                affected.add(ids.get(i));
+            }
+        }
+        return affected;
+    }
+}
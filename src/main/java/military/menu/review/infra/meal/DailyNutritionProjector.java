@@ -0,0 +1,62 @@
+package military.menu.review.infra.meal;
+
+import lombok.RequiredArgsConstructor;
+import military.menu.review.domain.meal.MealProjection;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.util.*;
+
+@Component
+@RequiredArgsConstructor
+public class DailyNutritionProjector implements MealProjection {
+    private static final int CHUNK_SIZE = 500;
+    private static final String INSERT = "insert into daily_nutrition (date, breakfast_kcal, lunch_kcal, dinner_kcal, total_kcal) " +
+            "select meal.date, " +
+            "sum(case when meal.meal_type = 'BREAKFAST' then menu.kcal else 0 end), " +
+            "sum(case when meal.meal_type = 'LUNCH' then menu.kcal else 0 end), " +
+            "sum(case when meal.meal_type = 'DINNER' then menu.kcal else 0 end), " +
+            "sum(menu.kcal) " +
+            "from meal join selected_menu on selected_menu.meal_id = meal.meal_id " +
+            "join menu on selected_menu.menu_id = menu.menu_id ";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void refresh(Collection<Long> mealIds) {
+        List<Long> ids = new ArrayList<>(mealIds);
+        Set<Date> dates = new TreeSet<>();
+        for(int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            dates.addAll(jdbcTemplate.queryForList("select distinct date from meal where meal_id in (:mealIds)",
+                    Collections.singletonMap("mealIds", chunk), Date.class));
+        }
+
+        List<Date> sortedDates = new ArrayList<>(dates);
+        for(int from = 0; from < sortedDates.size(); from += CHUNK_SIZE) {
+            Map<String, Object> params = Collections.singletonMap("dates", sortedDates.subList(from, Math.min(from + CHUNK_SIZE, sortedDates.size())));
+            jdbcTemplate.update("delete from daily_nutrition where date in (:dates)", params);
+            jdbcTemplate.update(INSERT + "where meal.date in (:dates) group by meal.date", params);
+        }
+    }
+
+    @Transactional
+    public void rebuild() {
+        jdbcTemplate.getJdbcTemplate().update("delete from daily_nutrition");
+        jdbcTemplate.getJdbcTemplate().update(INSERT + "group by meal.date");
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void rebuildIfEmpty() {
+        Boolean empty = jdbcTemplate.getJdbcTemplate().queryForObject(
+                "select not exists (select 1 from daily_nutrition) and exists (select 1 from selected_menu)", Boolean.class);
+        if(Boolean.TRUE.equals(empty)) {
+            rebuild();
+        }
+    }
+}
@@ -1,12 +1,17 @@
 package military.menu.review.infra.meal;
 
 import lombok.RequiredArgsConstructor;
+import military.menu.review.application.like.LikeCounter;
+import military.menu.review.application.like.LikedMenuIds;
+import military.menu.review.application.like.LikedMenus;
 import military.menu.review.domain.meal.MealDao;
 import military.menu.review.domain.meal.MealDto;
 import military.menu.review.domain.meal.MealType;
 import military.menu.review.domain.member.Member;
 import military.menu.review.domain.menu.MenuDto;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Component;
 
@@ -17,38 +22,60 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "meal.readModel", havingValue = "join", matchIfMissing = true)
 public class MealDaoImpl implements MealDao {
+    private static final String SELECT = "select * " +
+            "from meal join selected_menu on selected_menu.meal_id = meal.meal_id " +
+            "join menu on selected_menu.menu_id = menu.menu_id ";
+    private static final String SELECT_BY_DATE_BETWEEN = SELECT +
+            "where meal.date between ? and ? order by meal.date asc, meal.meal_type asc, menu.name asc";
+    private static final String SELECT_BY_ID = SELECT + "where meal.meal_id = ? order by menu.name asc";
+
     private final JdbcTemplate jdbcTemplate;
+    private final LikeCounter likeCounter;
+    private final LikedMenus likedMenus;
+
+    @Override
+    public List<MealDto> selectByDateBetween(LocalDate start, LocalDate end) {
+        return likeCounter.read(() -> merge(jdbcTemplate.query(SELECT_BY_DATE_BETWEEN, MealDtoExtractor.ANONYMOUS, start, end), LikedMenuIds.EMPTY));
+    }
 
     @Override
     public List<MealDto> selectByDateBetweenWithIsLiked(LocalDate start, LocalDate end, Member member) {
-        String sql = "select *, case when i.member_id = ? then true else false end is_liked " +
-                "from meal join selected_menu on selected_menu.meal_id = meal.meal_id " +
-                "join menu on selected_menu.menu_id = menu.menu_id " +
-                "left join (select * from likes where likes.member_id = ?) as i on menu.menu_id = i.menu_id " +
-                "where meal.date between ? and ? order by meal.date asc, meal.meal_type asc, menu.name asc";
-
-        Long memberId = member != null ? member.getId() : null;
-        boolean isLogin = member != null;
-        MealDtoRowMapper rowMapper = new MealDtoRowMapper(isLogin);
-        return jdbcTemplate.query(sql, rowMapper, memberId, memberId, start, end);
+        LikedMenuIds likedMenuIds = likedMenus.get(member != null ? member.getId() : null);
+        return likeCounter.read(() -> merge(jdbcTemplate.query(SELECT_BY_DATE_BETWEEN, MealDtoExtractor.of(member != null), start, end), likedMenuIds));
+    }
+
+    @Override
+    public void selectByDateBetweenWithIsLiked(LocalDate start, LocalDate end, Member member, Consumer<MealDto> consumer) {
+        LikedMenuIds likedMenuIds = likedMenus.get(member != null ? member.getId() : null);
+        MealDtoExtractor extractor = MealDtoExtractor.of(member != null);
+        jdbcTemplate.query(SELECT_BY_DATE_BETWEEN, (ResultSetExtractor<Void>) rs -> {
+            extractor.extract(rs, meal -> consumer.accept(merge(meal, likedMenuIds)));
+            return null;
+        }, start, end);
     }
 
     @Override
     public MealDto selectByIdWithIsLiked(Long id, Member member) {
-        String sql = "select *, case when i.member_id = ? then true else false end is_liked " +
-                "from meal join selected_menu on selected_menu.meal_id = meal.meal_id " +
-                "join menu on selected_menu.menu_id = menu.menu_id " +
-                "left join (select * from likes where likes.member_id = ?) as i on menu.menu_id = i.menu_id " +
-                "where meal.meal_id = ? order by menu.name asc";
-
-        Long memberId = member != null ? member.getId() : null;
-        boolean isLogin = member != null;
-        MealDtoRowMapper rowMapper = new MealDtoRowMapper(isLogin);
-        List<MealDto> result = jdbcTemplate.query(sql, rowMapper, memberId, memberId, id);
+        LikedMenuIds likedMenuIds = likedMenus.get(member != null ? member.getId() : null);
+        List<MealDto> result = likeCounter.read(() -> merge(jdbcTemplate.query(SELECT_BY_ID, MealDtoExtractor.of(member != null), id), likedMenuIds));
         return result.size() > 0 ? result.get(0) : null;
     }
+
+    private List<MealDto> merge(List<MealDto> meals, LikedMenuIds likedMenuIds) {
+        meals.forEach(meal -> merge(meal, likedMenuIds));
+        return meals;
+    }
+
+    private MealDto merge(MealDto meal, LikedMenuIds likedMenuIds) {
+        for(MenuDto menu : meal.getMenus()) {
+            menu.setLiked(likedMenuIds.contains(menu.getId()));
+        }
+        return likeCounter.merge(meal);
+    }
 }
@@ -0,0 +1,97 @@
+package military.menu.review.infra.meal;
+
+import military.menu.review.domain.meal.MealDto;
+import military.menu.review.domain.meal.MealType;
+import military.menu.review.domain.menu.MenuDto;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class MealDtoExtractor implements ResultSetExtractor<List<MealDto>> {
+    public static final MealDtoExtractor LOGIN = new MealDtoExtractor(true);
+    public static final MealDtoExtractor ANONYMOUS = new MealDtoExtractor(false);
+
+    private final boolean isLogin;
+
+    private MealDtoExtractor(boolean isLogin) {
+        this.isLogin = isLogin;
+    }
+
+    public static MealDtoExtractor of(boolean isLogin) {
+        return isLogin ? LOGIN : ANONYMOUS;
+    }
+
+    @Override
+    public List<MealDto> extractData(ResultSet rs) throws SQLException {
+        List<MealDto> meals = new ArrayList<>();
+        extract(rs, meals::add);
+        return meals;
+    }
+
+    public void extract(ResultSet rs, Consumer<MealDto> consumer) throws SQLException {
+        if(!rs.next()) {
+            return;
+        }
+
+        Columns columns = new Columns(rs);
+        MealDto meal = null;
+        long mealId = 0;
+
+        do {
+            long currentMealId = rs.getLong(columns.mealId);
+            if(meal == null || currentMealId != mealId) {
+                if(meal != null) {
+                    consumer.accept(meal);
+                }
+                mealId = currentMealId;
+                meal = meal(rs, columns, mealId);
+            }
+            meal.addMenu(menu(rs, columns));
+        } while(rs.next());
+
+        consumer.accept(meal);
+    }
+
+    private MealDto meal(ResultSet rs, Columns columns, long mealId) throws SQLException {
+        return MealDto.builder()
+                .id(mealId)
+                .date(rs.getDate(columns.date).toLocalDate())
+                .mealType(MealType.valueOf(rs.getString(columns.mealType)))
+                .menus(new ArrayList<>())
+                .build();
+    }
+
+    private MenuDto menu(ResultSet rs, Columns columns) throws SQLException {
+        return MenuDto.builder()
+                .isLogin(isLogin)
+                .id(rs.getLong(columns.menuId))
+                .name(rs.getString(columns.name))
+                .kcal(rs.getDouble(columns.kcal))
+                .like(rs.getLong(columns.likes))
+                .build();
+    }
+
+    private static class Columns {
+        private final int mealId;
+        private final int date;
+        private final int mealType;
+        private final int menuId;
+        private final int name;
+        private final int kcal;
+        private final int likes;
+
+        private Columns(ResultSet rs) throws SQLException {
+            mealId = rs.findColumn("meal_id");
+            date = rs.findColumn("date");
+            mealType = rs.findColumn("meal_type");
+            menuId = rs.findColumn("menu_id");
+            name = rs.findColumn("name");
+            kcal = rs.findColumn("kcal");
+            likes = rs.findColumn("likes");
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package military.menu.review.infra.meal;
+
+import lombok.RequiredArgsConstructor;
+import military.menu.review.application.like.LikeCounter;
+import military.menu.review.application.like.LikedMenuIds;
+import military.menu.review.application.like.LikedMenus;
+import military.menu.review.domain.meal.MealDao;
+import military.menu.review.domain.meal.MealDto;
+import military.menu.review.domain.member.Member;
+import military.menu.review.domain.menu.MenuDto;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "meal.readModel", havingValue = "view")
+public class MealMenuViewDao implements MealDao {
+    private static final String SELECT = "select meal_id, date, meal_type, menu_id, name, kcal, likes from meal_menu_view ";
+    private static final String SELECT_BY_DATE_BETWEEN = SELECT +
+            "where date between ? and ? order by date asc, meal_type asc, name asc";
+    private static final String SELECT_BY_ID = SELECT + "where meal_id = ? order by name asc";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LikeCounter likeCounter;
+    private final LikedMenus likedMenus;
+
+    @Override
+    public List<MealDto> selectByDateBetween(LocalDate start, LocalDate end) {
+        return likeCounter.read(() -> {
+            List<MealDto> meals = jdbcTemplate.query(SELECT_BY_DATE_BETWEEN, MealDtoExtractor.ANONYMOUS, start, end);
+            meals.forEach(likeCounter::merge);
+            return meals;
+        });
+    }
+
+    @Override
+    public List<MealDto> selectByDateBetweenWithIsLiked(LocalDate start, LocalDate end, Member member) {
+        LikedMenuIds likedMenuIds = likedMenus.get(member != null ? member.getId() : null);
+        return likeCounter.read(() -> {
+            List<MealDto> meals = jdbcTemplate.query(SELECT_BY_DATE_BETWEEN, MealDtoExtractor.of(member != null), start, end);
+            meals.forEach(meal -> overlay(meal, likedMenuIds));
+            return meals;
+        });
+    }
+
+    @Override
+    public void selectByDateBetweenWithIsLiked(LocalDate start, LocalDate end, Member member, Consumer<MealDto> consumer) {
+        LikedMenuIds likedMenuIds = likedMenus.get(member != null ? member.getId() : null);
+        MealDtoExtractor extractor = MealDtoExtractor.of(member != null);
+        jdbcTemplate.query(SELECT_BY_DATE_BETWEEN, (ResultSetExtractor<Void>) rs -> {
+            extractor.extract(rs, meal -> consumer.accept(overlay(meal, likedMenuIds)));
+            return null;
+        }, start, end);
+    }
+
+    @Override
+    public MealDto selectByIdWithIsLiked(Long id, Member member) {
+        LikedMenuIds likedMenuIds = likedMenus.get(member != null ? member.getId() : null);
+        return likeCounter.read(() -> {
+            List<MealDto> result = jdbcTemplate.query(SELECT_BY_ID, MealDtoExtractor.of(member != null), id);
+            return result.size() > 0 ? overlay(result.get(0), likedMenuIds) : null;
+        });
+    }
+
+    private MealDto overlay(MealDto meal, LikedMenuIds likedMenuIds) {
+        for(MenuDto menu : meal.getMenus()) {
+            menu.setLiked(likedMenuIds.contains(menu.getId()));
+        }
+        return likeCounter.merge(meal);
+    }
+}
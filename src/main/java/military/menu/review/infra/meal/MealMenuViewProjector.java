@@ -0,0 +1,54 @@
+package military.menu.review.infra.meal;
+
+import lombok.RequiredArgsConstructor;
+import military.menu.review.application.like.LikeCountsFlushedEvent;
+import military.menu.review.domain.meal.MealProjection;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class MealMenuViewProjector implements MealProjection {
+    private static final int CHUNK_SIZE = 500;
+    private static final String INSERT = "insert into meal_menu_view (meal_id, menu_id, date, meal_type, name, kcal, likes) " +
+            "select meal.meal_id, menu.menu_id, meal.date, meal.meal_type, menu.name, menu.kcal, menu.likes " +
+            "from meal join selected_menu on selected_menu.meal_id = meal.meal_id " +
+            "join menu on selected_menu.menu_id = menu.menu_id";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void refresh(Collection<Long> mealIds) {
+        List<Long> ids = new ArrayList<>(mealIds);
+        for(int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            jdbcTemplate.update("delete from meal_menu_view where meal_id in (:mealIds)", Collections.singletonMap("mealIds", chunk));
+            jdbcTemplate.update(INSERT + " where meal.meal_id in (:mealIds)", Collections.singletonMap("mealIds", chunk));
+        }
+    }
+
+    @Transactional
+    @EventListener(ApplicationStartedEvent.class)
+    public void rebuild() {
+        jdbcTemplate.getJdbcTemplate().update("delete from meal_menu_view");
+        jdbcTemplate.getJdbcTemplate().update(INSERT);
+    }
+
+    @EventListener
+    public void addLikes(LikeCountsFlushedEvent event) {
+        jdbcTemplate.getJdbcTemplate().batchUpdate("update meal_menu_view set likes = likes + ? where menu_id = ?",
+                event.getDeltas().entrySet(), CHUNK_SIZE, (ps, delta) -> {
+                    ps.setLong(1, delta.getValue());
+                    ps.setLong(2, delta.getKey());
+                });
+    }
+}
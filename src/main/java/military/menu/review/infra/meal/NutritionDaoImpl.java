@@ -0,0 +1,30 @@
+package military.menu.review.infra.meal;
+
+import lombok.RequiredArgsConstructor;
+import military.menu.review.domain.meal.DailyNutritionDto;
+import military.menu.review.domain.meal.NutritionDao;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class NutritionDaoImpl implements NutritionDao {
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<DailyNutritionDto> selectDailyBetween(LocalDate start, LocalDate end) {
+        String sql = "select date, breakfast_kcal, lunch_kcal, dinner_kcal, total_kcal from daily_nutrition " +
+                "where date between ? and ? order by date asc";
+
+        return jdbcTemplate.query(sql, (rs, i) -> DailyNutritionDto.builder()
+                .date(rs.getDate("date").toLocalDate())
+                .breakfastKcal(rs.getDouble("breakfast_kcal"))
+                .lunchKcal(rs.getDouble("lunch_kcal"))
+                .dinnerKcal(rs.getDouble("dinner_kcal"))
+                .totalKcal(rs.getDouble("total_kcal"))
+                .build(), start, end);
+    }
+}
@@ -1,83 +1,125 @@
 package military.menu.review.infra.menu;
 
 import lombok.RequiredArgsConstructor;
+import military.menu.review.application.like.LikeCounter;
+import military.menu.review.application.like.LikedMenuIds;
+import military.menu.review.application.like.LikedMenus;
+import military.menu.review.domain.menu.MenuCursor;
 import military.menu.review.domain.menu.MenuDto;
 import military.menu.review.domain.menu.MenuDao;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import military.menu.review.domain.menu.MenuSortPlan;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Component;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class MenuDaoImpl implements MenuDao {
+    private static final String SELECT_ALL = "select menu.menu_id, menu.kcal, menu.name, menu.likes from menu ";
+    private static final Map<MenuSortPlan, SortPlanSql> SORT_PLAN_SQL = sortPlanSql();
+
     private final JdbcTemplate jdbcTemplate;
+    private final LikeCounter likeCounter;
+    private final LikedMenus likedMenus;
 
     @Override
     public Optional<MenuDto> selectByIdWithIsLiked(Long menuId, Long memberId) {
-        String sql = "select menu.menu_id, menu.kcal, menu.name, menu.likes, " +
-                "case when i.member_id = ? then true else false end is_liked " +
-                "from menu left join (select * from likes where likes.member_id = ?) as i on menu.menu_id = i.menu_id " +
-                "where menu.menu_id=?";
-        boolean isLogin = memberId != null;
-        List<MenuDto> list = jdbcTemplate.query(sql, rowMapper(isLogin), memberId, memberId, menuId);
+        RowMapper<MenuDto> rowMapper = rowMapper(memberId);
+        List<MenuDto> list = likeCounter.read(() -> merge(jdbcTemplate.query(SELECT_ALL + "where menu.menu_id = ?", rowMapper, menuId)));
         return list.size() == 0 ? Optional.empty() : Optional.of(list.get(0));
     }
 
     @Override
-    public List<MenuDto> selectAllWithIsLiked(Pageable pageable, Long memberId) {
-        String sql = "select menu.menu_id, menu.kcal, menu.name, menu.likes, " +
-                "case when i.member_id = ? then true else false end is_liked " +
-                "from menu left join (select * from likes where likes.member_id = ? ) as i on menu.menu_id = i.menu_id ";
-        boolean isLogin = memberId != null;
-        return jdbcTemplate.query(sql + pagingSql(pageable), rowMapper(isLogin), memberId, memberId);
+    public List<MenuDto> selectByIdsWithIsLiked(Collection<Long> menuIds, Long memberId) {
+        List<Long> ids = menuIds.stream().distinct().collect(Collectors.toList());
+        String sql = SELECT_ALL + "where menu.menu_id in (" + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")";
+
+        RowMapper<MenuDto> rowMapper = rowMapper(memberId);
+        List<MenuDto> menus = likeCounter.read(() -> merge(jdbcTemplate.query(sql, rowMapper, ids.toArray())));
+        Map<Long, MenuDto> menusById = menus.stream().collect(Collectors.toMap(MenuDto::getId, Function.identity()));
+        return ids.stream().map(menusById::get).filter(Objects::nonNull).collect(Collectors.toList());
     }
 
-    private String pagingSql(Pageable pageable) {
-        return String.format("%s %s %s", orderBy(pageable), limit(pageable), offset(pageable));
+    @Override
+    public List<MenuDto> selectAllWithIsLiked(MenuSortPlan plan, long offset, int size, Long memberId) {
+        RowMapper<MenuDto> rowMapper = rowMapper(memberId);
+        return likeCounter.read(() -> merge(jdbcTemplate.query(SORT_PLAN_SQL.get(plan).page, rowMapper, size, offset)));
     }
 
-    private String limit(Pageable pageable) {
-        return String.format("limit %d", pageable.getPageSize());
+    @Override
+    public List<MenuDto> selectAllWithIsLiked(MenuCursor cursor, int size, Long memberId) {
+        RowMapper<MenuDto> rowMapper = rowMapper(memberId);
+        SortPlanSql sql = SORT_PLAN_SQL.get(cursor.getPlan());
+        if(cursor.isFirst()) {
+            return jdbcTemplate.query(sql.first, rowMapper, size);
+        }
+
+        Object value = cursor.getKeyValue();
+        return jdbcTemplate.query(sql.seek, rowMapper, value, value, cursor.getId(), size);
     }
 
-    private String offset(Pageable pageable) {
-        return String.format("offset %d", pageable.getOffset());
+    @Override
+    public void addLikes(Map<Long, Long> deltas) {
+        jdbcTemplate.batchUpdate("update menu set likes = likes + ? where menu_id = ?", deltas.entrySet(), deltas.size(),
+                (ps, delta) -> {
+                    ps.setLong(1, delta.getValue());
+                    ps.setLong(2, delta.getKey());
+                });
     }
 
-    private String orderBy(Pageable pageable) {
-        StringBuilder builder = new StringBuilder("order by");
-        Sort sort = pageable.getSort();
-        for(Sort.Order order : sort) {
-            builder.append(" ").append(order.getProperty());
-            builder.append(" ").append(order.getDirection().name());
-        }
-        return builder.toString();
+    private List<MenuDto> merge(List<MenuDto> menus) {
+        menus.forEach(likeCounter::merge);
+        return menus;
     }
 
-    private RowMapper rowMapper(boolean isLogin) {
+    private RowMapper<MenuDto> rowMapper(Long memberId) {
+        boolean isLogin = memberId != null;
+        LikedMenuIds likedMenuIds = likedMenus.get(memberId);
         return (rs, i) -> {
             Long id = rs.getLong("menu_id");
             Double kcal = rs.getDouble("kcal");
             String name = rs.getString("name");
             Long like = rs.getLong("likes");
-            boolean isLiked = rs.getBoolean("is_liked");
 
             return MenuDto.builder()
                     .id(id)
                     .kcal(kcal)
                     .name(name)
                     .like(like)
-                    .isLiked(isLiked)
+                    .isLiked(likedMenuIds.contains(id))
                     .isLogin(isLogin)
                     .build();
         };
     }
+
+    private static Map<MenuSortPlan, SortPlanSql> sortPlanSql() {
+        Map<MenuSortPlan, SortPlanSql> sql = new EnumMap<>(MenuSortPlan.class);
+        for(MenuSortPlan plan : MenuSortPlan.values()) {
+            sql.put(plan, new SortPlanSql(plan));
+        }
+        return Collections.unmodifiableMap(sql);
+    }
+
+    private static class SortPlanSql {
+        private final String page;
+        private final String first;
+        private final String seek;
+
+        private SortPlanSql(MenuSortPlan plan) {
+            String column = plan.getKey().getColumn();
+            String direction = plan.getDirection().name().toLowerCase();
+            String operator = plan.getDirection().isAscending() ? ">" : "<";
+            String orderBy = String.format("order by %s %s, menu.menu_id %s limit ?", column, direction, direction);
+
+            page = SELECT_ALL + orderBy + " offset ?";
+            first = SELECT_ALL + orderBy;
+            seek = SELECT_ALL + String.format("where %s %s ? or (%s = ? and menu.menu_id %s ?) ", column, operator, column, operator) + orderBy;
+        }
+    }
 }
@@ -0,0 +1,103 @@
+package military.menu.review.mnd;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import military.menu.review.mnd.importer.MndImportResult;
+import military.menu.review.mnd.sync.MndSyncService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Component
+@ConditionalOnProperty(name = "mnd.ingestion.enabled", havingValue = "true")
+public class MndIngestionService {
+    private final MndSyncService syncService;
+    private final TaskScheduler taskScheduler;
+    private final Timer timer;
+    private final Counter failures;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong lastDuration = new AtomicLong();
+    private final AtomicLong lastRows = new AtomicLong();
+    private final AtomicLong lastInsertedMenus = new AtomicLong();
+    private final AtomicLong lastInsertedSelectedMenus = new AtomicLong();
+    private final AtomicLong lastDeletedSelectedMenus = new AtomicLong();
+    private final AtomicLong lastChangedMeals = new AtomicLong();
+    @Value("${mnd.ingestion.runOnStartup}")
+    private boolean runOnStartup;
+
+    public MndIngestionService(MndSyncService syncService, TaskScheduler taskScheduler, MeterRegistry registry) {
+        this.syncService = syncService;
+        this.taskScheduler = taskScheduler;
+        this.timer = registry.timer("mnd.ingestion");
+        this.failures = registry.counter("mnd.ingestion.failures");
+        TimeGauge.builder("mnd.ingestion.last.duration", lastDuration, TimeUnit.MILLISECONDS, AtomicLong::get).register(registry);
+        registry.gauge("mnd.ingestion.last.rows", lastRows);
+        registry.gauge("mnd.ingestion.last.inserted.menus", lastInsertedMenus);
+        registry.gauge("mnd.ingestion.last.inserted.selected-menus", lastInsertedSelectedMenus);
+        registry.gauge("mnd.ingestion.last.deleted.selected-menus", lastDeletedSelectedMenus);
+        registry.gauge("mnd.ingestion.last.changed-meals", lastChangedMeals);
+    }
+
+    public void setRunOnStartup(boolean runOnStartup) {
+        this.runOnStartup = runOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ingestOnStartup() {
+        if(runOnStartup) {
+            taskScheduler.schedule(this::ingest, new Date());
+        }
+    }
+
+    @Scheduled(cron = "${mnd.ingestion.cron}", zone = "${mnd.ingestion.zone}")
+    public void ingest() {
+        run(syncService::sync);
+    }
+
+    @Scheduled(cron = "${mnd.ingestion.reconcileCron}", zone = "${mnd.ingestion.zone}")
+    public void reconcile() {
+        run(syncService::reload);
+    }
+
+    private void run(Supplier<MndImportResult> ingestion) {
+        if(!running.compareAndSet(false, true)) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            record(ingestion.get(), System.nanoTime() - start);
+        } catch (RuntimeException e) {
+            failures.increment();
+            throw e;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    private void record(MndImportResult result, long durationNanos) {
+        timer.record(durationNanos, TimeUnit.NANOSECONDS);
+        lastDuration.set(TimeUnit.NANOSECONDS.toMillis(durationNanos));
+        lastRows.set(result.getRows());
+        lastInsertedMenus.set(result.getInsertedMenus());
+        lastInsertedSelectedMenus.set(result.getInsertedSelectedMenus());
+        lastDeletedSelectedMenus.set(result.getDeletedSelectedMenus());
+        lastChangedMeals.set(result.getChangedMeals());
+    }
+}
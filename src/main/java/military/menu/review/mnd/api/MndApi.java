@@ -1,38 +1,106 @@
 package military.menu.review.mnd.api;
 
+import military.menu.review.mnd.api.exception.MndPageRequestException;
+import military.menu.review.mnd.api.exception.MndSourceRequestException;
 import military.menu.review.mnd.api.parser.MndApiDataParser;
 import military.menu.review.mnd.api.parser.TotalCountParser;
+import military.menu.review.mnd.api.source.MndDataSource;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.*;
+import java.util.function.Consumer;
 
 @Component
 public class MndApi {
-    @Value("${mnd.baseUrl}")
-    private String baseUrl;
-    private RestTemplate template;
+    private final MndDataSource dataSource;
+    @Value("${mnd.pageSize}")
+    private int pageSize;
+    @Value("${mnd.threads}")
+    private int threads;
+    @Value("${mnd.maxAttempts}")
+    private int maxAttempts;
+
+    public MndApi(MndDataSource dataSource) {
+        this.dataSource = dataSource;
+    }
 
-    public MndApi() {
-        template = new RestTemplate();
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
     }
 
-    public void setBaseUrl(String baseUrl) {
-        this.baseUrl = baseUrl;
+    public void setThreads(int threads) {
+        this.threads = threads;
     }
 
-    public void setTemplate(RestTemplate template) {
-        this.template = template;
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
     }
 
     public <T> T parse(MndApiDataParser<T> parser) {
-        return parser.parse(request(getTotalCount()));
+        return dataSource.request(1, getTotalCount(), parser);
+    }
+
+    public <T> void parseByPage(MndApiDataParser<T> parser, Consumer<T> consumer) {
+        parseByPage(parser, 1, getTotalCount(), consumer);
+    }
+
+    public <T> void parseByPage(MndApiDataParser<T> parser, int startIndex, int endIndex, Consumer<T> consumer) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            CompletionService<T> completionService = new ExecutorCompletionService<>(executor);
+            int nextIndex = startIndex;
+            int running = 0;
+
+            while(nextIndex <= endIndex || running > 0) {
+                while(nextIndex <= endIndex && running < threads * 2) {
+                    submitPage(completionService, parser, nextIndex, Math.min(nextIndex + pageSize - 1, endIndex));
+                    nextIndex += pageSize;
+                    running++;
+                }
+
+                consumer.accept(take(completionService));
+                running--;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private <T> void submitPage(CompletionService<T> completionService, MndApiDataParser<T> parser, int startIndex, int endIndex) {
+        completionService.submit(() -> requestWithRetry(startIndex, endIndex, parser));
     }
 
-    private int getTotalCount() {
-        return new TotalCountParser().parse(request(1));
+    private <T> T take(CompletionService<T> completionService) {
+        try {
+            return completionService.take().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            if(e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
     }
 
-    private String request(int endIndex) {
-        return template.getForObject(String.format("%s/1/%d", baseUrl, endIndex), String.class);
+    public int getTotalCount() {
+        return dataSource.request(1, 1, new TotalCountParser());
+    }
+
+    private <T> T requestWithRetry(int startIndex, int endIndex, MndApiDataParser<T> parser) {
+        MndSourceRequestException exception = null;
+
+        for(int attempt = 0; attempt < maxAttempts; attempt++) {
+            try {
+                return dataSource.request(startIndex, endIndex, parser);
+            } catch (MndSourceRequestException e) {
+                exception = e;
+            }
+        }
+
+        throw new MndPageRequestException(startIndex, endIndex, exception);
     }
 }
@@ -6,9 +6,8 @@ import java.util.Map;
 import java.util.Optional;
 
 public abstract class JsonToMenuConvertor {
-    private static final String MENU_NAME_REDUNDANT_PATTERN = "\\(.*\\)";
-    private static final String CALORIE_PATTERN = "\\d+(\\.\\d+)?kcal";
-    private static final String CALORIE_REDUNDANT_PATTERN = "kcal";
+    private static final MenuNameNormalizer NAME_NORMALIZER = MenuNameNormalizer.shared();
+    private static final String CALORIE_SUFFIX = "kcal";
 
     public abstract String getMenuNameColumn();
     public abstract String getCalorieColumn();
@@ -16,25 +15,44 @@ public abstract class JsonToMenuConvertor {
     public Optional<MndMenuDTO> convert(Map<String, String> jsonMap){
         String menuName = jsonMap.get(getMenuNameColumn());
         String calorie = jsonMap.get(getCalorieColumn());
-        return parseMenu(menuName, calorie);
+        return convert(menuName, calorie);
     }
 
-    private Optional<MndMenuDTO> parseMenu(String name, String calorie) {
-        return isEmptyMenu(name) ? Optional.empty() : Optional.of(MndMenuDTO.of(parseMenuName(name), parseCalorie(calorie)));
-    }
-
-    private boolean isEmptyMenu(String name) {
-        return (name.trim().equals("") || name.trim().length() == 0);
-    }
+    public Optional<MndMenuDTO> convert(String name, String calorie) {
+        if(name == null) {
+            return Optional.empty();
+        }
 
-    private String parseMenuName(String name) {
-        return name.replaceAll(MENU_NAME_REDUNDANT_PATTERN, "");
+        String menuName = NAME_NORMALIZER.normalize(name);
+        return menuName.isEmpty() ? Optional.empty() : Optional.of(MndMenuDTO.of(menuName, parseCalorie(calorie)));
     }
 
     private double parseCalorie(String calorie) {
-        if(calorie.matches(CALORIE_PATTERN))
-            return Double.parseDouble(calorie.replaceAll(CALORIE_REDUNDANT_PATTERN, ""));
+        if(calorie == null || !calorie.endsWith(CALORIE_SUFFIX)) {
+            return 0.0;
+        }
+
+        int end = calorie.length() - CALORIE_SUFFIX.length();
+        int integerDigits = countDigits(calorie, 0, end);
+        if(integerDigits == 0) {
+            return 0.0;
+        }
+
+        if(integerDigits != end) {
+            int dot = integerDigits;
+            if(calorie.charAt(dot) != '.' || countDigits(calorie, dot + 1, end) != end - dot - 1 || dot + 1 == end) {
+                return 0.0;
+            }
+        }
+
+        return Double.parseDouble(calorie.substring(0, end));
+    }
 
-        return 0.0;
+    private int countDigits(String value, int from, int to) {
+        int i = from;
+        while(i < to && value.charAt(i) >= '0' && value.charAt(i) <= '9') {
+            i++;
+        }
+        return i - from;
     }
 }
@@ -0,0 +1,96 @@
+package military.menu.review.mnd.api.convertor;
+
+import java.text.Normalizer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class MenuNameNormalizer {
+    private static final MenuNameNormalizer SHARED = new MenuNameNormalizer();
+    private static final int MAX_ENTRIES = 100_000;
+
+    private final Map<String, String> dictionary = new ConcurrentHashMap<>();
+    private final int maxEntries;
+
+    public MenuNameNormalizer() {
+        this(MAX_ENTRIES);
+    }
+
+    MenuNameNormalizer(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public static MenuNameNormalizer shared() {
+        return SHARED;
+    }
+
+    public String normalize(String name) {
+        String canonical = dictionary.get(name);
+        if(canonical != null) {
+            return canonical;
+        }
+
+        canonical = intern(canonicalize(name));
+        if(dictionary.size() < maxEntries) {
+            dictionary.putIfAbsent(name, canonical);
+        }
+        return canonical;
+    }
+
+    public int size() {
+        return dictionary.size();
+    }
+
+    private String intern(String canonical) {
+        String interned = dictionary.get(canonical);
+        if(interned != null || dictionary.size() >= maxEntries) {
+            return interned == null ? canonical : interned;
+        }
+
+        interned = dictionary.putIfAbsent(canonical, canonical);
+        return interned == null ? canonical : interned;
+    }
+
+    private String canonicalize(String name) {
+        String compatible = Normalizer.isNormalized(name, Normalizer.Form.NFKC) ? name : Normalizer.normalize(name, Normalizer.Form.NFKC);
+        StringBuilder builder = new StringBuilder(compatible.length());
+        boolean pendingSpace = false;
+
+        for(int i = 0; i < compatible.length(); i++) {
+            char c = compatible.charAt(i);
+
+            if(c == '(') {
+                int close = findClosingParenthesis(compatible, i);
+                if(close > 0) {
+                    i = close;
+                    continue;
+                }
+            }
+
+            if(c <= ' ' || Character.isWhitespace(c)) {
+                pendingSpace = builder.length() > 0;
+                continue;
+            }
+
+            if(pendingSpace) {
+                builder.append(' ');
+                pendingSpace = false;
+            }
+            builder.append(c);
+        }
+
+        return compatible.contentEquals(builder) ? compatible : builder.toString();
+    }
+
+    private int findClosingParenthesis(String name, int open) {
+        int depth = 0;
+        for(int i = open; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if(c == '(') {
+                depth++;
+            } else if(c == ')' && --depth == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,7 @@
+package military.menu.review.mnd.api.exception;
+
+public class MndPageRequestException extends RuntimeException {
+    public MndPageRequestException(int startIndex, int endIndex, Throwable cause) {
+        super(String.format("국방부 식단 데이터 [%d ~ %d] 구간 요청에 실패했습니다.", startIndex, endIndex), cause);
+    }
+}
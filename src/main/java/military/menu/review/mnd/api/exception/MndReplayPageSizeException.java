@@ -0,0 +1,7 @@
+package military.menu.review.mnd.api.exception;
+
+public class MndReplayPageSizeException extends IllegalArgumentException {
+    public MndReplayPageSizeException(int startIndex, int endIndex, int maxPageSize) {
+        super(String.format("재생 데이터 [%d ~ %d] 구간 요청은 최대 %d건을 초과합니다.", startIndex, endIndex, maxPageSize));
+    }
+}
@@ -0,0 +1,7 @@
+package military.menu.review.mnd.api.exception;
+
+public class MndRowParseException extends IllegalArgumentException {
+    public MndRowParseException(int rowIndex, String column) {
+        super(String.format("국방부 식단 데이터 %d번째 행에 %s 값이 없습니다.", rowIndex, column));
+    }
+}
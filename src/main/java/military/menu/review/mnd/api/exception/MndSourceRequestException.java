@@ -0,0 +1,7 @@
+package military.menu.review.mnd.api.exception;
+
+public class MndSourceRequestException extends RuntimeException {
+    public MndSourceRequestException(int startIndex, int endIndex, Throwable cause) {
+        super(String.format("국방부 식단 데이터 [%d ~ %d] 구간을 가져오지 못했습니다.", startIndex, endIndex), cause);
+    }
+}
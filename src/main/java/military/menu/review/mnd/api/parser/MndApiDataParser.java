@@ -6,19 +6,31 @@ import military.menu.review.mnd.api.convertor.JsonToBreakfastConvertor;
 import military.menu.review.mnd.api.convertor.JsonToDinnerConvertor;
 import military.menu.review.mnd.api.convertor.JsonToLunchConvertor;
 import military.menu.review.mnd.api.convertor.JsonToMenuConvertor;
+import org.springframework.util.StreamUtils;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 public abstract class MndApiDataParser<T> {
-    private static final String SERVICE_COLUMN = "DS_TB_MNDT_DATEBYMLSVC_ATC";
-    private static final String ROW_COLUMN = "row";
+    protected static final String SERVICE_COLUMN = "DS_TB_MNDT_DATEBYMLSVC_ATC";
+    protected static final String ROW_COLUMN = "row";
+    protected static final ObjectMapper MAPPER = new ObjectMapper();
     protected static final JsonToMenuConvertor BREAKFAST_CONVERTOR = new JsonToBreakfastConvertor();
     protected static final JsonToMenuConvertor LUNCH_CONVERTOR = new JsonToLunchConvertor();
     protected static final JsonToMenuConvertor DINNER_CONVERTOR = new JsonToDinnerConvertor();
 
     public abstract T parse(String json);
 
+    public T parse(InputStream inputStream) {
+        try {
+            return parse(StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     protected List<Map<String, String>> deserializeByRow(String json) {
         return (List) deserializeByService(json).get(ROW_COLUMN);
     }
@@ -29,8 +41,7 @@ public abstract class MndApiDataParser<T> {
 
     private Map<String, Object> readJson(String json) {
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            return mapper.readValue(json, Map.class);
+            return MAPPER.readValue(json, Map.class);
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         } catch (IOException e) {
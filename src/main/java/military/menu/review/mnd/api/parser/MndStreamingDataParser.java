@@ -0,0 +1,138 @@
+package military.menu.review.mnd.api.parser;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import military.menu.review.mnd.api.convertor.JsonToMenuConvertor;
+import military.menu.review.mnd.api.dto.MndMealDTO;
+import military.menu.review.mnd.api.dto.MndMenuDTO;
+import military.menu.review.mnd.api.exception.MndRowParseException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.function.Consumer;
+
+public class MndStreamingDataParser extends MndApiDataParser<List<MndMealDTO>> {
+    private static final String DATE_COLUMN = "dates";
+    private static final int DATE = 0;
+    private static final int BREAKFAST = 1;
+    private static final int LUNCH = 3;
+    private static final int DINNER = 5;
+    private static final String[] COLUMNS = {
+            DATE_COLUMN,
+            BREAKFAST_CONVERTOR.getMenuNameColumn(), BREAKFAST_CONVERTOR.getCalorieColumn(),
+            LUNCH_CONVERTOR.getMenuNameColumn(), LUNCH_CONVERTOR.getCalorieColumn(),
+            DINNER_CONVERTOR.getMenuNameColumn(), DINNER_CONVERTOR.getCalorieColumn()
+    };
+    private static final Map<String, Integer> COLUMN_INDEXES = columnIndexes();
+
+    public List<MndMealDTO> parse(String json) {
+        List<MndMealDTO> result = new ArrayList<>();
+        parse(json, result::add);
+        return result;
+    }
+
+    @Override
+    public List<MndMealDTO> parse(InputStream inputStream) {
+        List<MndMealDTO> result = new ArrayList<>();
+        parse(inputStream, result::add);
+        return result;
+    }
+
+    public void parse(String json, Consumer<MndMealDTO> consumer) {
+        try(JsonParser parser = MAPPER.getFactory().createParser(json)) {
+            parse(parser, consumer);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void parse(InputStream inputStream, Consumer<MndMealDTO> consumer) {
+        try(JsonParser parser = MAPPER.getFactory().createParser(inputStream)) {
+            parse(parser, consumer);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void parse(JsonParser parser, Consumer<MndMealDTO> consumer) throws IOException {
+        if(!moveToRows(parser)) {
+            return;
+        }
+
+        int rowIndex = 0;
+        while(parser.nextToken() == JsonToken.START_OBJECT) {
+            consumer.accept(readRow(parser, rowIndex++));
+        }
+    }
+
+    private boolean moveToRows(JsonParser parser) throws IOException {
+        if(parser.nextToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+
+        while(parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+
+            if(SERVICE_COLUMN.equals(name) && value == JsonToken.START_OBJECT) {
+                return moveToRowArray(parser);
+            }
+            parser.skipChildren();
+        }
+
+        return false;
+    }
+
+    private boolean moveToRowArray(JsonParser parser) throws IOException {
+        while(parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+
+            if(ROW_COLUMN.equals(name) && value == JsonToken.START_ARRAY) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+
+        return false;
+    }
+
+    private MndMealDTO readRow(JsonParser parser, int rowIndex) throws IOException {
+        String[] values = new String[COLUMNS.length];
+
+        while(parser.nextToken() == JsonToken.FIELD_NAME) {
+            Integer index = COLUMN_INDEXES.get(parser.getCurrentName());
+            JsonToken value = parser.nextToken();
+
+            if(index != null && value.isScalarValue()) {
+                values[index] = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if(values[DATE] == null) {
+            throw new MndRowParseException(rowIndex, DATE_COLUMN);
+        }
+
+        return MndMealDTO.of(
+                values[DATE].trim(),
+                convert(BREAKFAST_CONVERTOR, values, BREAKFAST),
+                convert(LUNCH_CONVERTOR, values, LUNCH),
+                convert(DINNER_CONVERTOR, values, DINNER)
+        );
+    }
+
+    private MndMenuDTO convert(JsonToMenuConvertor convertor, String[] values, int nameIndex) {
+        return convertor.convert(values[nameIndex], values[nameIndex + 1]).orElse(null);
+    }
+
+    private static Map<String, Integer> columnIndexes() {
+        Map<String, Integer> indexes = new HashMap<>();
+        for(int i = 0; i < COLUMNS.length; i++) {
+            indexes.put(COLUMNS[i], i);
+        }
+        return Collections.unmodifiableMap(indexes);
+    }
+}
@@ -0,0 +1,106 @@
+package military.menu.review.mnd.api.source;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import military.menu.review.mnd.api.exception.MndSourceRequestException;
+import military.menu.review.mnd.api.parser.MndApiDataParser;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+@Component
+@ConditionalOnProperty(name = "mnd.source", havingValue = "http", matchIfMissing = true)
+public class HttpMndDataSource implements MndDataSource {
+    private static final String GZIP = "gzip";
+
+    @Value("${mnd.baseUrl}")
+    private String baseUrl;
+    private final RestTemplate template;
+    private final Timer timeToFirstByte;
+    private final DistributionSummary transferredBytes;
+    private final DistributionSummary decodedBytes;
+
+    public HttpMndDataSource(@Qualifier("mndRestTemplate") RestTemplate template, MeterRegistry registry) {
+        this.template = template;
+        this.timeToFirstByte = registry.timer("mnd.http.ttfb");
+        this.transferredBytes = DistributionSummary.builder("mnd.http.bytes").tag("encoding", "transferred").baseUnit("bytes").register(registry);
+        this.decodedBytes = DistributionSummary.builder("mnd.http.bytes").tag("encoding", "decoded").baseUnit("bytes").register(registry);
+    }
+
+    public void setBaseUrl(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    @Override
+    public <T> T request(int startIndex, int endIndex, MndApiDataParser<T> parser) {
+        long start = System.nanoTime();
+
+        try {
+            return template.execute(String.format("%s/%d/%d", baseUrl, startIndex, endIndex), HttpMethod.GET,
+                    request -> request.getHeaders().set(HttpHeaders.ACCEPT_ENCODING, GZIP),
+                    response -> {
+                        timeToFirstByte.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                        return parse(response, parser);
+                    });
+        } catch (RestClientException e) {
+            throw new MndSourceRequestException(startIndex, endIndex, e);
+        }
+    }
+
+    private <T> T parse(ClientHttpResponse response, MndApiDataParser<T> parser) throws IOException {
+        CountingInputStream transferred = new CountingInputStream(response.getBody());
+        CountingInputStream decoded = GZIP.equalsIgnoreCase(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING))
+                ? new CountingInputStream(new GZIPInputStream(transferred)) : transferred;
+
+        try {
+            return parser.parse(decoded);
+        } catch (RuntimeException e) {
+            if(e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        } finally {
+            transferredBytes.record(transferred.count);
+            decodedBytes.record(decoded.count);
+        }
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if(b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if(read > 0) {
+                count += read;
+            }
+            return read;
+        }
+    }
+}
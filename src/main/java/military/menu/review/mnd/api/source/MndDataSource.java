@@ -0,0 +1,7 @@
+package military.menu.review.mnd.api.source;
+
+import military.menu.review.mnd.api.parser.MndApiDataParser;
+
+public interface MndDataSource {
+    <T> T request(int startIndex, int endIndex, MndApiDataParser<T> parser);
+}
@@ -0,0 +1,188 @@
+package military.menu.review.mnd.api.source;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import military.menu.review.mnd.api.exception.MndReplayPageSizeException;
+import military.menu.review.mnd.api.parser.MndApiDataParser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+@Component
+@ConditionalOnProperty(name = "mnd.source", havingValue = "replay")
+public class ReplayMndDataSource implements MndDataSource {
+    private static final String SERVICE_COLUMN = "DS_TB_MNDT_DATEBYMLSVC_ATC";
+    private static final String ROW_COLUMN = "row";
+    private static final byte[] FOOTER = "]}}".getBytes(StandardCharsets.UTF_8);
+
+    @Value("${mnd.replay.path}")
+    private String path;
+    @Value("${mnd.replay.latency}")
+    private long latency;
+    @Value("${mnd.replay.maxPageSize}")
+    private int maxPageSize;
+    private volatile Dump dump;
+
+    public void setPath(String path) {
+        this.path = path;
+        this.dump = null;
+    }
+
+    public void setLatency(long latency) {
+        this.latency = latency;
+    }
+
+    public void setMaxPageSize(int maxPageSize) {
+        this.maxPageSize = maxPageSize;
+    }
+
+    @Override
+    public <T> T request(int startIndex, int endIndex, MndApiDataParser<T> parser) {
+        if(endIndex - startIndex + 1 > maxPageSize) {
+            throw new MndReplayPageSizeException(startIndex, endIndex, maxPageSize);
+        }
+
+        byte[] page = getDump().page(startIndex, endIndex);
+        sleep();
+        return parser.parse(new ByteArrayInputStream(page));
+    }
+
+    private Dump getDump() {
+        Dump result = dump;
+        if(result == null) {
+            synchronized (this) {
+                result = dump;
+                if(result == null) {
+                    result = Dump.load(Paths.get(path));
+                    dump = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private void sleep() {
+        if(latency <= 0) {
+            return;
+        }
+
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class Dump {
+        private final MappedByteBuffer buffer;
+        private final int[] rowStarts;
+        private final int[] rowEnds;
+        private final int rowCount;
+
+        private Dump(MappedByteBuffer buffer, int[] rowStarts, int[] rowEnds, int rowCount) {
+            this.buffer = buffer;
+            this.rowStarts = rowStarts;
+            this.rowEnds = rowEnds;
+            this.rowCount = rowCount;
+        }
+
+        static Dump load(Path path) {
+            try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                return index(buffer);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static Dump index(MappedByteBuffer buffer) throws IOException {
+            int[] starts = new int[1024];
+            int[] ends = new int[1024];
+            int count = 0;
+
+            try(JsonParser parser = new JsonFactory().createParser(new ByteBufferBackedInputStream(buffer.duplicate()))) {
+                if(moveToRows(parser)) {
+                    while(parser.nextToken() == JsonToken.START_OBJECT) {
+                        if(count == starts.length) {
+                            starts = Arrays.copyOf(starts, count * 2);
+                            ends = Arrays.copyOf(ends, count * 2);
+                        }
+                        starts[count] = (int) parser.getTokenLocation().getByteOffset();
+                        parser.skipChildren();
+                        ends[count] = (int) parser.getCurrentLocation().getByteOffset();
+                        count++;
+                    }
+                }
+            }
+
+            return new Dump(buffer, starts, ends, count);
+        }
+
+        private static boolean moveToRows(JsonParser parser) throws IOException {
+            if(parser.nextToken() != JsonToken.START_OBJECT) {
+                return false;
+            }
+
+            while(parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                if(parser.nextToken() == JsonToken.START_OBJECT && SERVICE_COLUMN.equals(name)) {
+                    while(parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String column = parser.getCurrentName();
+                        if(parser.nextToken() == JsonToken.START_ARRAY && ROW_COLUMN.equals(column)) {
+                            return true;
+                        }
+                        parser.skipChildren();
+                    }
+                    return false;
+                }
+                parser.skipChildren();
+            }
+
+            return false;
+        }
+
+        byte[] page(int startIndex, int endIndex) {
+            int from = Math.max(startIndex, 1) - 1;
+            int to = Math.min(endIndex, rowCount);
+            byte[] header = String.format("{\"%s\":{\"list_total_count\":%d,\"%s\":[", SERVICE_COLUMN, rowCount, ROW_COLUMN)
+                    .getBytes(StandardCharsets.UTF_8);
+
+            int length = header.length + FOOTER.length + Math.max(to - from - 1, 0);
+            for(int i = from; i < to; i++) {
+                length += rowEnds[i] - rowStarts[i];
+            }
+
+            byte[] page = new byte[length];
+            System.arraycopy(header, 0, page, 0, header.length);
+            int offset = header.length;
+            ByteBuffer rows = buffer.duplicate();
+
+            for(int i = from; i < to; i++) {
+                if(i > from) {
+                    page[offset++] = ',';
+                }
+                rows.position(rowStarts[i]);
+                rows.get(page, offset, rowEnds[i] - rowStarts[i]);
+                offset += rowEnds[i] - rowStarts[i];
+            }
+
+            System.arraycopy(FOOTER, 0, page, offset, FOOTER.length);
+            return page;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package military.menu.review.mnd.importer;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import military.menu.review.domain.meal.MealType;
+
+import java.time.LocalDate;
+
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor(staticName = "of")
+class MealKey {
+    private final LocalDate date;
+    private final MealType mealType;
+}
@@ -0,0 +1,24 @@
+package military.menu.review.mnd.importer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MndImportResult {
+    private final int rows;
+    private final int insertedMenus;
+    private final int insertedMeals;
+    private final int insertedSelectedMenus;
+    private final int deletedSelectedMenus;
+    private final int changedMeals;
+    private final int chunks;
+
+    public boolean isChanged() {
+        return changedMeals > 0;
+    }
+
+    public static MndImportResult empty() {
+        return new MndImportResult(0, 0, 0, 0, 0, 0, 0);
+    }
+}
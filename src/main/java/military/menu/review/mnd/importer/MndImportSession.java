@@ -0,0 +1,277 @@
+package military.menu.review.mnd.importer;
+
+import military.menu.review.domain.meal.MealProjection;
+import military.menu.review.domain.meal.MealType;
+import military.menu.review.mnd.api.dto.MndMealDTO;
+import military.menu.review.mnd.api.dto.MndMenuDTO;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class MndImportSession {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final List<MealProjection> projections;
+    private final int batchSize;
+    private final boolean reconcile;
+    private final Map<String, Long> menuIds;
+    private final Map<MealKey, Long> mealIds;
+    private final Map<Long, Set<Long>> selectedMenuIds = new HashMap<>();
+    private final Map<String, Double> pendingMenus = new LinkedHashMap<>();
+    private final Set<MealKey> pendingMeals = new LinkedHashSet<>();
+    private final Set<PendingSelectedMenu> pendingSelectedMenus = new LinkedHashSet<>();
+    private final Map<Long, Set<Long>> incomingMenuIds = new HashMap<>();
+    private final Set<LocalDate> dates = new HashSet<>();
+    private final Set<Long> changedMealIds = new HashSet<>();
+    private final Set<Long> unprojectedMealIds = new HashSet<>();
+    private LocalDate lastDate;
+    private int rows;
+    private int insertedMenus;
+    private int insertedMeals;
+    private int insertedSelectedMenus;
+    private int deletedSelectedMenus;
+    private int chunks;
+
+    MndImportSession(NamedParameterJdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                     List<MealProjection> projections, int batchSize, boolean reconcile,
+                     Map<String, Long> menuIds, Map<MealKey, Long> mealIds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.projections = projections;
+        this.batchSize = batchSize;
+        this.reconcile = reconcile;
+        this.menuIds = menuIds;
+        this.mealIds = mealIds;
+    }
+
+    public void add(MndMealDTO dto) {
+        LocalDate date = LocalDate.parse(dto.getDate());
+        add(date, MealType.BREAKFAST, dto.getBreakfast());
+        add(date, MealType.LUNCH, dto.getLunch());
+        add(date, MealType.DINNER, dto.getDinner());
+        rows++;
+
+        if(reconcile) {
+            dates.add(date);
+        }
+
+        if(lastDate == null || date.isAfter(lastDate)) {
+            lastDate = date;
+        }
+
+        if(pendingSelectedMenus.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    public MndImportResult finish() {
+        if(reconcile || !pendingSelectedMenus.isEmpty()) {
+            transactionTemplate.execute(status -> {
+                writePending();
+                if(reconcile) {
+                    deleteStaleSelectedMenus();
+                }
+                project();
+                return null;
+            });
+        }
+        return new MndImportResult(rows, insertedMenus, insertedMeals, insertedSelectedMenus, deletedSelectedMenus,
+                changedMealIds.size(), chunks);
+    }
+
+    public LocalDate getLastDate() {
+        return lastDate;
+    }
+
+    private void add(LocalDate date, MealType type, MndMenuDTO menu) {
+        if(menu == null) {
+            return;
+        }
+
+        MealKey mealKey = MealKey.of(date, type);
+        if(!mealIds.containsKey(mealKey)) {
+            pendingMeals.add(mealKey);
+        }
+
+        if(!menuIds.containsKey(menu.getName())) {
+            pendingMenus.putIfAbsent(menu.getName(), menu.getKcal());
+        }
+
+        pendingSelectedMenus.add(new PendingSelectedMenu(mealKey, menu.getName()));
+    }
+
+    private void flush() {
+        if(pendingSelectedMenus.isEmpty()) {
+            return;
+        }
+
+        transactionTemplate.execute(status -> {
+            writePending();
+            project();
+            return null;
+        });
+    }
+
+    private void project() {
+        if(unprojectedMealIds.isEmpty()) {
+            return;
+        }
+
+        projections.forEach(projection -> projection.refresh(unprojectedMealIds));
+        unprojectedMealIds.clear();
+    }
+
+    private void writePending() {
+        if(pendingSelectedMenus.isEmpty()) {
+            return;
+        }
+
+        insertMenus();
+        insertMeals();
+        insertSelectedMenus();
+        chunks++;
+    }
+
+    private void insertMenus() {
+        if(pendingMenus.isEmpty()) {
+            return;
+        }
+
+        List<String> names = new ArrayList<>(pendingMenus.keySet());
+        jdbcTemplate.getJdbcTemplate().batchUpdate("insert into menu (name, kcal, likes) values (?, ?, 0)", names, batchSize,
+                (ps, name) -> {
+                    ps.setString(1, name);
+                    ps.setDouble(2, pendingMenus.get(name));
+                });
+        jdbcTemplate.query("select menu_id, name from menu where name in (:names)", Collections.singletonMap("names", names),
+                rs -> { menuIds.put(rs.getString(2), rs.getLong(1)); });
+
+        insertedMenus += names.size();
+        pendingMenus.clear();
+    }
+
+    private void insertMeals() {
+        if(pendingMeals.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.getJdbcTemplate().batchUpdate("insert into meal (date, meal_type) values (?, ?)", pendingMeals, batchSize,
+                (ps, mealKey) -> {
+                    ps.setDate(1, Date.valueOf(mealKey.getDate()));
+                    ps.setString(2, mealKey.getMealType().name());
+                });
+        List<Date> dates = pendingMeals.stream().map(key -> Date.valueOf(key.getDate())).distinct().collect(Collectors.toList());
+        jdbcTemplate.query("select meal_id, date, meal_type from meal where date in (:dates)", Collections.singletonMap("dates", dates),
+                rs -> { mealIds.put(MealKey.of(rs.getDate(2).toLocalDate(), MealType.valueOf(rs.getString(3))), rs.getLong(1)); });
+        pendingMeals.forEach(mealKey -> selectedMenuIds.put(mealIds.get(mealKey), new HashSet<>()));
+
+        insertedMeals += pendingMeals.size();
+        pendingMeals.clear();
+    }
+
+    private void insertSelectedMenus() {
+        loadSelectedMenuIds(pendingSelectedMenus.stream().map(selectedMenu -> mealIds.get(selectedMenu.mealKey)));
+
+        List<long[]> newSelectedMenus = new ArrayList<>();
+        for(PendingSelectedMenu selectedMenu : pendingSelectedMenus) {
+            long mealId = mealIds.get(selectedMenu.mealKey);
+            long menuId = menuIds.get(selectedMenu.menuName);
+
+            if(reconcile) {
+                incomingMenuIds.computeIfAbsent(mealId, id -> new HashSet<>()).add(menuId);
+            }
+
+            if(selectedMenuIds.get(mealId).add(menuId)) {
+                newSelectedMenus.add(new long[]{mealId, menuId});
+                changedMealIds.add(mealId);
+                unprojectedMealIds.add(mealId);
+            }
+        }
+
+        jdbcTemplate.getJdbcTemplate().batchUpdate("insert into selected_menu (meal_id, menu_id) values (?, ?)", newSelectedMenus, batchSize,
+                (ps, ids) -> {
+                    ps.setLong(1, ids[0]);
+                    ps.setLong(2, ids[1]);
+                });
+
+        insertedSelectedMenus += newSelectedMenus.size();
+        pendingSelectedMenus.clear();
+    }
+
+    private void deleteStaleSelectedMenus() {
+        loadSelectedMenuIds(mealIds.entrySet().stream()
+                .filter(entry -> dates.contains(entry.getKey().getDate()))
+                .map(Map.Entry::getValue));
+
+        List<long[]> staleSelectedMenus = new ArrayList<>();
+        for(Map.Entry<MealKey, Long> entry : mealIds.entrySet()) {
+            if(!dates.contains(entry.getKey().getDate())) {
+                continue;
+            }
+
+            long mealId = entry.getValue();
+            Set<Long> incoming = incomingMenuIds.getOrDefault(mealId, Collections.emptySet());
+            Iterator<Long> stored = selectedMenuIds.get(mealId).iterator();
+            while(stored.hasNext()) {
+                long menuId = stored.next();
+                if(!incoming.contains(menuId)) {
+                    staleSelectedMenus.add(new long[]{mealId, menuId});
+                    changedMealIds.add(mealId);
+                    unprojectedMealIds.add(mealId);
+                    stored.remove();
+                }
+            }
+        }
+
+        jdbcTemplate.getJdbcTemplate().batchUpdate("delete from selected_menu where meal_id = ? and menu_id = ?", staleSelectedMenus, batchSize,
+                (ps, ids) -> {
+                    ps.setLong(1, ids[0]);
+                    ps.setLong(2, ids[1]);
+                });
+
+        deletedSelectedMenus += staleSelectedMenus.size();
+    }
+
+    private void loadSelectedMenuIds(Stream<Long> mealIdStream) {
+        List<Long> unloadedMealIds = mealIdStream
+                .filter(mealId -> !selectedMenuIds.containsKey(mealId))
+                .distinct()
+                .collect(Collectors.toList());
+
+        unloadedMealIds.forEach(mealId -> selectedMenuIds.put(mealId, new HashSet<>()));
+        for(int from = 0; from < unloadedMealIds.size(); from += batchSize) {
+            List<Long> chunk = unloadedMealIds.subList(from, Math.min(from + batchSize, unloadedMealIds.size()));
+            jdbcTemplate.query("select meal_id, menu_id from selected_menu where meal_id in (:mealIds)",
+                    Collections.singletonMap("mealIds", chunk),
+                    rs -> { selectedMenuIds.get(rs.getLong(1)).add(rs.getLong(2)); });
+        }
+    }
+
+    private static class PendingSelectedMenu {
+        private final MealKey mealKey;
+        private final String menuName;
+
+        private PendingSelectedMenu(MealKey mealKey, String menuName) {
+            this.mealKey = mealKey;
+            this.menuName = menuName;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            PendingSelectedMenu that = (PendingSelectedMenu) o;
+            return mealKey.equals(that.mealKey) && menuName.equals(that.menuName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(mealKey, menuName);
+        }
+    }
+}
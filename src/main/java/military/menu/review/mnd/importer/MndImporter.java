@@ -0,0 +1,58 @@
+package military.menu.review.mnd.importer;
+
+import military.menu.review.domain.meal.MealProjection;
+import military.menu.review.domain.meal.MealType;
+import military.menu.review.mnd.api.convertor.MenuNameNormalizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class MndImporter {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final List<MealProjection> projections;
+    private final MenuNameNormalizer nameNormalizer = MenuNameNormalizer.shared();
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:300}")
+    private int batchSize;
+
+    public MndImporter(NamedParameterJdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                       List<MealProjection> projections) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.projections = projections;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public MndImportSession open() {
+        return open(false);
+    }
+
+    public MndImportSession open(boolean reconcile) {
+        return new MndImportSession(jdbcTemplate, transactionTemplate, projections, batchSize, reconcile,
+                loadMenuIds(), loadMealIds());
+    }
+
+    private Map<String, Long> loadMenuIds() {
+        Map<String, Long> menuIds = new HashMap<>();
+        jdbcTemplate.getJdbcTemplate().query("select menu_id, name from menu",
+                rs -> { menuIds.putIfAbsent(nameNormalizer.normalize(rs.getString(2)), rs.getLong(1)); });
+        return menuIds;
+    }
+
+    private Map<MealKey, Long> loadMealIds() {
+        Map<MealKey, Long> mealIds = new HashMap<>();
+        jdbcTemplate.getJdbcTemplate().query("select meal_id, date, meal_type from meal",
+                rs -> { mealIds.put(MealKey.of(rs.getDate(2).toLocalDate(), MealType.valueOf(rs.getString(3))), rs.getLong(1)); });
+        return mealIds;
+    }
+}
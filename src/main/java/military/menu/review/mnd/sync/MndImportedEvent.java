@@ -0,0 +1,11 @@
+package military.menu.review.mnd.sync;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import military.menu.review.mnd.importer.MndImportResult;
+
+@Getter
+@RequiredArgsConstructor
+public class MndImportedEvent {
+    private final MndImportResult result;
+}
@@ -0,0 +1,59 @@
+package military.menu.review.mnd.sync;
+
+import lombok.RequiredArgsConstructor;
+import military.menu.review.mnd.api.MndApi;
+import military.menu.review.mnd.api.parser.MndStreamingDataParser;
+import military.menu.review.mnd.importer.MndImportResult;
+import military.menu.review.mnd.importer.MndImportSession;
+import military.menu.review.mnd.importer.MndImporter;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+@Service
+@RequiredArgsConstructor
+public class MndSyncService {
+    private static final String SOURCE = "DS_TB_MNDT_DATEBYMLSVC_ATC";
+
+    private final MndApi api;
+    private final MndImporter importer;
+    private final MndSyncStateRepository syncStateRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public MndImportResult sync() {
+        MndSyncState state = findState();
+        int totalCount = api.getTotalCount();
+        int startIndex = totalCount < state.getLastIndex() ? 1 : state.getLastIndex() + 1;
+        return sync(state, startIndex, totalCount, false);
+    }
+
+    public MndImportResult reload() {
+        return sync(findState(), 1, api.getTotalCount(), true);
+    }
+
+    private MndImportResult sync(MndSyncState state, int startIndex, int endIndex, boolean reconcile) {
+        if(startIndex > endIndex) {
+            saveState(state, endIndex, null);
+            return MndImportResult.empty();
+        }
+
+        MndImportSession session = importer.open(reconcile);
+        api.parseByPage(new MndStreamingDataParser(), startIndex, endIndex, dataList -> dataList.forEach(session::add));
+        MndImportResult result = session.finish();
+        saveState(state, endIndex, session.getLastDate());
+        if(result.isChanged()) {
+            eventPublisher.publishEvent(new MndImportedEvent(result));
+        }
+        return result;
+    }
+
+    private void saveState(MndSyncState state, int lastIndex, LocalDate lastDate) {
+        state.update(lastIndex, lastDate);
+        syncStateRepository.save(state);
+    }
+
+    private MndSyncState findState() {
+        return syncStateRepository.findById(SOURCE).orElseGet(() -> MndSyncState.of(SOURCE));
+    }
+}
@@ -0,0 +1,36 @@
+package military.menu.review.mnd.sync;
+
+import lombok.Getter;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+public class MndSyncState {
+    @Id
+    private String source;
+    private int lastIndex;
+    private LocalDate lastDate;
+    private LocalDateTime synced;
+
+    protected MndSyncState() {}
+
+    private MndSyncState(String source) {
+        this.source = source;
+    }
+
+    public void update(int lastIndex, LocalDate lastDate) {
+        this.lastIndex = lastIndex;
+        if(lastDate != null && (this.lastDate == null || lastDate.isAfter(this.lastDate))) {
+            this.lastDate = lastDate;
+        }
+        this.synced = LocalDateTime.now();
+    }
+
+    public static MndSyncState of(String source) {
+        return new MndSyncState(source);
+    }
+}
@@ -0,0 +1,6 @@
+package military.menu.review.mnd.sync;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MndSyncStateRepository extends JpaRepository<MndSyncState, String> {
+}
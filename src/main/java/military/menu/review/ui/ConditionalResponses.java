@@ -0,0 +1,21 @@
+package military.menu.review.ui;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Optional;
+
+public class ConditionalResponses {
+    private ConditionalResponses() {}
+
+    public static ResponseEntity.BodyBuilder ok(Optional<String> eTag) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().varyBy(HttpHeaders.AUTHORIZATION);
+        eTag.ifPresent(builder::eTag);
+        return builder;
+    }
+
+    public static ResponseEntity notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(HttpHeaders.AUTHORIZATION).build();
+    }
+}
@@ -0,0 +1,60 @@
+package military.menu.review.ui.like;
+
+import lombok.RequiredArgsConstructor;
+import military.menu.review.application.like.LikeAction;
+import military.menu.review.application.like.LikeResult;
+import military.menu.review.application.like.LikeService;
+import military.menu.review.domain.member.Member;
+import military.menu.review.security.CurrentMember;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.Link;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.Errors;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.Valid;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/menus/likes")
+public class LikeBatchController {
+    private final LikeService likeService;
+    @Value("${like.batch.maxOperations:50}")
+    private int maxOperations;
+
+    @PostMapping("/batch")
+    public ResponseEntity batch(@CurrentMember Member member, @Valid @RequestBody LikeBatchRequest request, Errors errors) {
+        if(member == null) {
+            return new ResponseEntity(HttpStatus.UNAUTHORIZED);
+        }
+
+        if(errors.hasErrors() || request.getOperations().size() > maxOperations) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        Map<Long, LikeAction> operations = new LinkedHashMap<>();
+        for(LikeOperationRequest operation : request.getOperations()) {
+            if(operations.putIfAbsent(operation.getMenuId(), operation.getAction()) != null) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+
+        Map<Long, LikeResult> results = likeService.apply(member, operations);
+        List<LikeResultResponse> responses = results.entrySet().stream()
+                .map(result -> new LikeResultResponse(result.getKey(), operations.get(result.getKey()), result.getValue()))
+                .collect(Collectors.toList());
+
+        CollectionModel<LikeResultResponse> model = CollectionModel.of(responses);
+        model.add(linkTo(LikeBatchController.class).slash("batch").withSelfRel());
+        model.add(Link.of("/docs/index.html#resources-batch-like").withRel("profile"));
+        return ResponseEntity.ok(model);
+    }
+}
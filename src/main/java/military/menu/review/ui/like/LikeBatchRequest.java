@@ -0,0 +1,17 @@
+package military.menu.review.ui.like;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import java.util.List;
+
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor
+public class LikeBatchRequest {
+    @NotEmpty
+    @Valid
+    private List<LikeOperationRequest> operations;
+}
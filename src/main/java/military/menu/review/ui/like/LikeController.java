@@ -5,23 +5,32 @@ import military.menu.review.application.like.exception.LikeIsAlreadyExistExcepti
 import military.menu.review.application.like.exception.LikeIsNotExistException;
 import military.menu.review.application.like.LikeService;
 import military.menu.review.domain.like.Like;
+import military.menu.review.domain.like.LikeCursor;
+import military.menu.review.domain.like.LikeDao;
+import military.menu.review.domain.like.LikeDto;
 import military.menu.review.domain.like.LikeRepository;
+import military.menu.review.domain.like.exception.InvalidLikeCursorException;
 import military.menu.review.domain.member.Member;
 import military.menu.review.domain.menu.Menu;
 import military.menu.review.domain.menu.MenuRepository;
 import military.menu.review.security.CurrentMember;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.RepresentationModel;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
@@ -33,12 +42,18 @@ public class LikeController {
     private final MenuRepository menuRepository;
     private final LikeService likeService;
     private final LikeRepository likeRepository;
+    private final LikeDao likeDao;
 
     @ExceptionHandler(LikeIsAlreadyExistException.class)
     public ResponseEntity likeIsAlreadyExistException() {
         return new ResponseEntity(HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(InvalidLikeCursorException.class)
+    public ResponseEntity invalidLikeCursorException() {
+        return ResponseEntity.badRequest().build();
+    }
+
     @ExceptionHandler(LikeIsNotExistException.class)
     public ResponseEntity likeIsNotExistException() {
         return ResponseEntity.notFound().build();
@@ -65,20 +80,44 @@ public class LikeController {
     }
 
     @GetMapping("/likes")
-    public ResponseEntity queryLikes(Pageable pageable, PagedResourcesAssembler<Like> assembler,
+    public ResponseEntity queryLikes(Pageable pageable, PagedResourcesAssembler<LikeDto> assembler,
                                      @PathVariable Long menuId, @CurrentMember Member member) {
-        Optional<Menu> menuOptional = menuRepository.findById(menuId);
-        if(!menuOptional.isPresent()) {
+        if(!menuRepository.existsById(menuId)) {
             return ResponseEntity.notFound().build();
         }
 
-        Menu menu = menuOptional.get();
-        Page<Like> page = likeRepository.findAllByMenu(menu, pageable);
+        Page<LikeDto> page = likeRepository.findDtosByMenuId(menuId, pageable);
         PagedModel<LikeResponse> pagedModel = assembler.toModel(page, l -> new LikeResponse(l, member));
         pagedModel.add(Link.of("/docs/index.html#resource-query-likes").withRel("profile"));
         return ResponseEntity.ok(pagedModel);
     }
 
+    @GetMapping("/likes/scroll")
+    public ResponseEntity scrollLikes(@PathVariable Long menuId, @CurrentMember Member member, @PageableDefault Pageable pageable,
+                                      @RequestParam(required = false) String cursor) {
+        if(!menuRepository.existsById(menuId)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        LikeCursor likeCursor = cursor == null ? LikeCursor.first() : LikeCursor.decode(cursor);
+        List<LikeDto> likes = likeDao.selectByMenuId(menuId, likeCursor, pageable.getPageSize() + 1);
+        boolean hasNext = likes.size() > pageable.getPageSize();
+        if(hasNext) {
+            likes = likes.subList(0, pageable.getPageSize());
+        }
+
+        CollectionModel<LikeResponse> result = CollectionModel.of(likes.stream()
+                .map(like -> new LikeResponse(like, member))
+                .collect(Collectors.toList()));
+        result.add(Link.of(ServletUriComponentsBuilder.fromCurrentRequest().toUriString()).withSelfRel());
+        if(hasNext) {
+            String next = LikeCursor.next(likes.get(likes.size() - 1)).encode();
+            result.add(Link.of(ServletUriComponentsBuilder.fromCurrentRequest().replaceQueryParam("cursor", next).toUriString()).withRel("next"));
+        }
+        result.add(Link.of("/docs/index.html#resources-scroll-likes").withRel("profile"));
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/likes/{likeId}")
     public ResponseEntity queryLike(@PathVariable Long menuId, @PathVariable Long likeId, @CurrentMember Member member) {
         Optional<Like> optionalLike = likeRepository.findById(likeId);
@@ -0,0 +1,17 @@
+package military.menu.review.ui.like;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import military.menu.review.application.like.LikeAction;
+
+import javax.validation.constraints.NotNull;
+
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor
+public class LikeOperationRequest {
+    @NotNull
+    private Long menuId;
+    @NotNull
+    private LikeAction action;
+}
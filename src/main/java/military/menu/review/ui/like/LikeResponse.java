@@ -3,6 +3,7 @@ package military.menu.review.ui.like;
 import lombok.Getter;
 import lombok.Setter;
 import military.menu.review.domain.like.Like;
+import military.menu.review.domain.like.LikeDto;
 import military.menu.review.domain.member.Member;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.RepresentationModel;
@@ -20,9 +21,13 @@ public class LikeResponse extends RepresentationModel<LikeResponse> {
     private LocalDateTime dateTime;
 
     public LikeResponse(Like like, Member member) {
+        this(new LikeDto(like.getId(), like.getMember().getId(), like.getMenu().getId(), like.getDateTime()), member);
+    }
+
+    public LikeResponse(LikeDto like, Member member) {
         this.id = like.getId();
-        this.memberId = like.getMember().getId();
-        this.menuId = like.getMenu().getId();
+        this.memberId = like.getMemberId();
+        this.menuId = like.getMenuId();
         this.dateTime = like.getDateTime();
 
         add(selfLink());
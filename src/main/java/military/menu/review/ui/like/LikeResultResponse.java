@@ -0,0 +1,19 @@
+package military.menu.review.ui.like;
+
+import lombok.Getter;
+import military.menu.review.application.like.LikeAction;
+import military.menu.review.application.like.LikeResult;
+import org.springframework.hateoas.RepresentationModel;
+
+@Getter
+public class LikeResultResponse extends RepresentationModel<LikeResultResponse> {
+    private final Long menuId;
+    private final LikeAction action;
+    private final LikeResult result;
+
+    public LikeResultResponse(Long menuId, LikeAction action, LikeResult result) {
+        this.menuId = menuId;
+        this.action = action;
+        this.result = result;
+    }
+}
@@ -1,18 +1,37 @@
 package military.menu.review.ui.meal;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import military.menu.review.application.meal.WeeklyMealCache;
+import military.menu.review.application.version.ContentVersions;
 import military.menu.review.domain.meal.MealDao;
 import military.menu.review.domain.meal.MealDto;
+import military.menu.review.domain.meal.NutritionDao;
 import military.menu.review.domain.member.Member;
+import military.menu.review.domain.menu.MenuDto;
 import military.menu.review.security.CurrentMember;
+import military.menu.review.ui.ConditionalResponses;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.Link;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 
 @RestController
@@ -20,35 +39,105 @@ import java.util.List;
 @RequestMapping("/meals")
 public class MealController {
     private final MealDao mealDao;
+    private final NutritionDao nutritionDao;
+    private final WeeklyMealCache weeklyMealCache;
     private final WeekValidator weekValidator;
+    private final RangeValidator rangeValidator;
+    private final ObjectMapper objectMapper;
+    private final ContentVersions contentVersions;
 
     @InitBinder("weekRequest")
     public void initBinder(WebDataBinder binder) {
         binder.addValidators(weekValidator);
     }
 
+    @InitBinder("rangeRequest")
+    public void initRangeBinder(WebDataBinder binder) {
+        binder.addValidators(rangeValidator);
+    }
+
     @GetMapping
-    public ResponseEntity meals(@Valid @ModelAttribute WeekRequest weekRequest, @CurrentMember Member member, Errors errors) {
+    public ResponseEntity meals(@Valid @ModelAttribute WeekRequest weekRequest, @CurrentMember Member member, Errors errors, WebRequest request) {
         if(errors.hasErrors()) {
             return ResponseEntity.badRequest().build();
         }
 
-        List<MealDto> mealsDto = mealDao.selectByDateBetweenWithIsLiked(weekRequest.firstDate(), weekRequest.lastDate(), member);
+        String key = "week" + weekRequest.firstDate();
+        Optional<String> eTag = contentVersions.tag(key, member);
+        if(eTag.isPresent() && request.checkNotModified(eTag.get())) {
+            return ConditionalResponses.notModified(eTag.get());
+        }
+
+        ContentVersions.Stamp stamp = contentVersions.stamp();
+        List<MealDto> mealsDto = weeklyMealCache.findWeek(weekRequest.firstDate(), weekRequest.lastDate(), member);
+        contentVersions.register(key, stamp, menuIds(mealsDto));
         MealsResponse response = new MealsResponse(mealsDto, weekRequest);
         response.add(Link.of("/docs/index.html#resources-query-meals").withRel("profile"));
+        return ConditionalResponses.ok(contentVersions.tag(key, stamp, member)).body(response);
+    }
+
+    @GetMapping("/range")
+    public void range(@Valid @ModelAttribute RangeRequest rangeRequest, Errors errors, @CurrentMember Member member,
+                      HttpServletResponse response) throws IOException {
+        if(errors.hasErrors()) {
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            return;
+        }
+
+        LocalDate firstDate = rangeRequest.firstDate();
+        LocalDate lastDate = rangeRequest.lastDate();
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        try(JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            MealRangeWriter writer = new MealRangeWriter(generator, member != null);
+            writer.start(firstDate, lastDate);
+            mealDao.selectByDateBetweenWithIsLiked(firstDate, lastDate, member, writer);
+            writer.end(ServletUriComponentsBuilder.fromCurrentRequest().toUriString(), "/docs/index.html#resources-query-meals-range");
+        }
+    }
+
+    @GetMapping("/nutrition")
+    public ResponseEntity nutrition(@Valid @ModelAttribute RangeRequest rangeRequest, Errors errors,
+                                    @RequestParam(defaultValue = "DAY") NutritionUnit unit) {
+        if(errors.hasErrors()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        LocalDate firstDate = rangeRequest.firstDate();
+        LocalDate lastDate = rangeRequest.lastDate();
+        List<NutritionResponse> nutritions = NutritionResponse.of(nutritionDao.selectDailyBetween(firstDate, lastDate), unit, firstDate, lastDate);
+        CollectionModel<NutritionResponse> response = CollectionModel.of(nutritions);
+        response.add(Link.of(ServletUriComponentsBuilder.fromCurrentRequest().toUriString()).withSelfRel());
+        response.add(Link.of("/docs/index.html#resources-query-meals-nutrition").withRel("profile"));
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity meal(@PathVariable Long id, @CurrentMember Member member) {
+    public ResponseEntity meal(@PathVariable Long id, @CurrentMember Member member, WebRequest request) {
+        String key = "meal" + id;
+        Optional<String> eTag = contentVersions.tag(key, member);
+        if(eTag.isPresent() && request.checkNotModified(eTag.get())) {
+            return ConditionalResponses.notModified(eTag.get());
+        }
+
+        ContentVersions.Stamp stamp = contentVersions.stamp();
         MealDto mealDto = mealDao.selectByIdWithIsLiked(id, member);
         if(mealDto == null) {
             return ResponseEntity.notFound().build();
         }
+        contentVersions.register(key, stamp, menuIds(Collections.singletonList(mealDto)));
         MealResponse response = new MealResponse(mealDto);
         WeekRequest weekRequest = WeekRequest.from(mealDto.getDate());
         response.add(Link.of(String.format("/meals?year=%d&month=%d&week=%d", weekRequest.getYear(), weekRequest.getMonth(), weekRequest.getWeek())).withRel("meals"));
         response.add(Link.of("docs/index.html#query-meal").withRel("profile"));
-        return ResponseEntity.ok(response);
+        return ConditionalResponses.ok(contentVersions.tag(key, stamp, member)).body(response);
+    }
+
+    private List<Long> menuIds(List<MealDto> meals) {
+        return meals.stream()
+                .flatMap(meal -> meal.getMenus().stream())
+                .map(MenuDto::getId)
+                .collect(Collectors.toList());
     }
 }
\ No newline at end of file
@@ -0,0 +1,96 @@
+package military.menu.review.ui.meal;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import military.menu.review.domain.meal.MealDto;
+import military.menu.review.domain.menu.MenuDto;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+public class MealRangeWriter implements Consumer<MealDto> {
+    private final JsonGenerator generator;
+    private final boolean isLogin;
+    private LocalDate currentDate;
+
+    public MealRangeWriter(JsonGenerator generator, boolean isLogin) {
+        this.generator = generator;
+        this.isLogin = isLogin;
+    }
+
+    public void start(LocalDate firstDate, LocalDate lastDate) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("from", firstDate.toString());
+        generator.writeStringField("to", lastDate.toString());
+        generator.writeArrayFieldStart("days");
+    }
+
+    @Override
+    public void accept(MealDto meal) {
+        try {
+            write(meal);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void end(String selfLink, String profileLink) throws IOException {
+        if(currentDate != null) {
+            endDay();
+        }
+        generator.writeEndArray();
+        generator.writeObjectFieldStart("_links");
+        writeLink("self", selfLink);
+        writeLink("profile", profileLink);
+        generator.writeEndObject();
+        generator.writeEndObject();
+        generator.flush();
+    }
+
+    private void write(MealDto meal) throws IOException {
+        if(!meal.getDate().equals(currentDate)) {
+            if(currentDate != null) {
+                endDay();
+            }
+            currentDate = meal.getDate();
+            generator.writeStartObject();
+            generator.writeStringField("date", currentDate.toString());
+            generator.writeArrayFieldStart("meals");
+        }
+
+        generator.writeStartObject();
+        generator.writeNumberField("id", meal.getId());
+        generator.writeStringField("mealType", meal.getMealType().name());
+        generator.writeNumberField("kcal", meal.getKcal());
+        generator.writeArrayFieldStart("menus");
+        for(MenuDto menu : meal.getMenus()) {
+            write(menu);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private void write(MenuDto menu) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", menu.getId());
+        generator.writeStringField("name", menu.getName());
+        generator.writeNumberField("kcal", menu.getKcal());
+        generator.writeNumberField("like", menu.getLike());
+        if(isLogin) {
+            generator.writeBooleanField("liked", menu.isLiked());
+        }
+        generator.writeEndObject();
+    }
+
+    private void endDay() throws IOException {
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private void writeLink(String rel, String href) throws IOException {
+        generator.writeObjectFieldStart(rel);
+        generator.writeStringField("href", href);
+        generator.writeEndObject();
+    }
+}
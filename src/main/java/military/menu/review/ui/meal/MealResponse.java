@@ -7,6 +7,7 @@ import military.menu.review.domain.meal.MealDto;
 import military.menu.review.domain.meal.SelectedMenu;
 import military.menu.review.domain.menu.Menu;
 import military.menu.review.domain.menu.MenuDto;
+import military.menu.review.ui.menu.MenuLinks;
 import military.menu.review.ui.menu.MenuResponse;
 import org.springframework.hateoas.RepresentationModel;
 
@@ -22,13 +23,16 @@ public class MealResponse extends RepresentationModel<MealResponse> {
     private Long id;
     private LocalDate date;
     private String mealType;
+    private double kcal;
     private List<MenuResponse> menus;
 
     public MealResponse(MealDto mealDto) {
         this.id = mealDto.getId();
         this.date = mealDto.getDate();
         this.mealType = mealDto.getMealType().name();
-        this.menus = mealDto.getMenus().stream().map(MenuResponse::new).collect(Collectors.toList());
+        this.kcal = mealDto.getKcal();
+        MenuLinks links = MenuLinks.current();
+        this.menus = mealDto.getMenus().stream().map(menuDto -> new MenuResponse(menuDto, links)).collect(Collectors.toList());
         add(linkTo(MealController.class).slash(id).withSelfRel());
     }
 }
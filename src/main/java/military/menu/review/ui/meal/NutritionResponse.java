@@ -0,0 +1,50 @@
+package military.menu.review.ui.meal;
+
+import lombok.Getter;
+import military.menu.review.domain.meal.DailyNutritionDto;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+public class NutritionResponse {
+    private final LocalDate start;
+    private final LocalDate end;
+    private double breakfastKcal;
+    private double lunchKcal;
+    private double dinnerKcal;
+    private double totalKcal;
+
+    private NutritionResponse(LocalDate start, LocalDate end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    public static List<NutritionResponse> of(List<DailyNutritionDto> days, NutritionUnit unit, LocalDate firstDate, LocalDate lastDate) {
+        List<NutritionResponse> result = new ArrayList<>();
+        NutritionResponse current = null;
+        for(DailyNutritionDto day : days) {
+            LocalDate start = day.getDate();
+            LocalDate end = day.getDate();
+            if(unit == NutritionUnit.WEEK) {
+                LocalDate weekStart = WeekRequest.from(day.getDate()).firstDate();
+                start = weekStart.isBefore(firstDate) ? firstDate : weekStart;
+                end = weekStart.plusDays(6).isAfter(lastDate) ? lastDate : weekStart.plusDays(6);
+            }
+            if(current == null || !current.start.equals(start)) {
+                current = new NutritionResponse(start, end);
+                result.add(current);
+            }
+            current.add(day);
+        }
+        return result;
+    }
+
+    private void add(DailyNutritionDto day) {
+        breakfastKcal += day.getBreakfastKcal();
+        lunchKcal += day.getLunchKcal();
+        dinnerKcal += day.getDinnerKcal();
+        totalKcal += day.getTotalKcal();
+    }
+}
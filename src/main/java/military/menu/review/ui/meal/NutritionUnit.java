@@ -0,0 +1,5 @@
+package military.menu.review.ui.meal;
+
+public enum NutritionUnit {
+    DAY, WEEK
+}
@@ -0,0 +1,42 @@
+package military.menu.review.ui.meal;
+
+import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import java.time.LocalDate;
+
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor
+public class RangeRequest {
+    public static final int MAX_DAYS = 62;
+
+    @Min(2019) @Max(2099)
+    private Integer year;
+    @Min(1) @Max(12)
+    private Integer month;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+
+    public boolean isMonth() {
+        return year != null || month != null;
+    }
+
+    public LocalDate firstDate() {
+        return isMonth() ? WeekRequest.from(year, month, 1).firstDate() : from;
+    }
+
+    public LocalDate lastDate() {
+        if(!isMonth()) {
+            return to;
+        }
+
+        WeekRequest week = WeekRequest.from(year, month, 1);
+        while(week.nextWeek().getMonth() == month) {
+            week = week.nextWeek();
+        }
+        return week.lastDate();
+    }
+}
@@ -0,0 +1,44 @@
+package military.menu.review.ui.meal;
+
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+import java.time.temporal.ChronoUnit;
+
+@Component
+public class RangeValidator implements Validator {
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return clazz.isAssignableFrom(RangeRequest.class);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        RangeRequest rangeRequest = (RangeRequest)target;
+
+        if(rangeRequest.isMonth()) {
+            validateMonth(rangeRequest, errors);
+        } else {
+            validateDates(rangeRequest, errors);
+        }
+    }
+
+    private void validateMonth(RangeRequest rangeRequest, Errors errors) {
+        if(rangeRequest.getYear() == null || rangeRequest.getMonth() == null) {
+            errors.reject("month", "년도와 월을 함께 입력해야 합니다.");
+        } else if(rangeRequest.getFrom() != null || rangeRequest.getTo() != null) {
+            errors.reject("range", "월과 기간을 함께 입력할 수 없습니다.");
+        }
+    }
+
+    private void validateDates(RangeRequest rangeRequest, Errors errors) {
+        if(rangeRequest.getFrom() == null || rangeRequest.getTo() == null) {
+            errors.reject("range", "조회 기간을 입력해야 합니다.");
+        } else if(rangeRequest.getFrom().isAfter(rangeRequest.getTo())) {
+            errors.rejectValue("to", String.format("%s 이후 날짜를 입력해야 합니다.", rangeRequest.getFrom()));
+        } else if(ChronoUnit.DAYS.between(rangeRequest.getFrom(), rangeRequest.getTo()) >= RangeRequest.MAX_DAYS) {
+            errors.rejectValue("to", String.format("조회 기간은 최대 %d일입니다.", RangeRequest.MAX_DAYS));
+        }
+    }
+}
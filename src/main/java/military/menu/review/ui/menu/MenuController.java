@@ -1,44 +1,124 @@
 package military.menu.review.ui.menu;
 
 import lombok.RequiredArgsConstructor;
+import military.menu.review.application.like.LikeCounter;
+import military.menu.review.application.menu.MenuCounter;
+import military.menu.review.application.menu.MenuLeaderboard;
+import military.menu.review.application.version.ContentVersions;
+import military.menu.review.domain.menu.MenuCursor;
 import military.menu.review.domain.menu.MenuDto;
+import military.menu.review.domain.meal.MealType;
 import military.menu.review.domain.member.Member;
 import military.menu.review.domain.menu.Menu;
 import military.menu.review.domain.menu.MenuDao;
-import military.menu.review.domain.menu.MenuRepository;
+import military.menu.review.domain.menu.MenuSortPlan;
+import military.menu.review.domain.menu.exception.InvalidMenuCursorException;
+import military.menu.review.domain.menu.exception.UnsupportedMenuSortException;
 import military.menu.review.security.CurrentMember;
+import military.menu.review.ui.ConditionalResponses;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.data.web.PagedResourcesAssembler;
-import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/menus")
 public class MenuController {
-    private final MenuRepository menuRepository;
+    private static final int MAX_POPULAR_SIZE = 100;
+
+    private final MenuCounter menuCounter;
+    private final MenuLeaderboard menuLeaderboard;
+    @Value("${menu.batch.maxIds:50}")
+    private int maxBatchIds;
     private final MenuDao menuDao;
+    private final ContentVersions contentVersions;
+    private final LikeCounter likeCounter;
 
     @GetMapping
     public ResponseEntity menus(@CurrentMember Member member, @PageableDefault(sort = {"name"}) Pageable pageable, PagedResourcesAssembler<MenuDto> dtoAssembler) {
-        List<MenuDto> menuDtoList = queryForList(pageable, member);
-        Page<MenuDto> dtoPage = new PageImpl<>(menuDtoList, pageable, menuRepository.count());
-        PagedModel<MenuResponse> result = dtoAssembler.toModel(dtoPage, MenuResponse::new);
+        List<MenuDto> menuDtoList = queryForList(MenuSortPlan.of(pageable.getSort()), pageable, member);
+        Page<MenuDto> dtoPage = new PageImpl<>(menuDtoList, pageable, menuCounter.count());
+        MenuLinks links = MenuLinks.current();
+        PagedModel<MenuResponse> result = dtoAssembler.toModel(dtoPage, menuDto -> new MenuResponse(menuDto, links));
         result.add(Link.of("http://localhost:8080/docs/index.html#resources-query-menus").withRel("profile"));
         return ResponseEntity.ok(result);
     }
 
+    @ExceptionHandler({InvalidMenuCursorException.class, UnsupportedMenuSortException.class})
+    public ResponseEntity badRequest() {
+        return ResponseEntity.badRequest().build();
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity menusByIds(@CurrentMember Member member, @RequestParam List<Long> ids) {
+        if(ids.isEmpty() || ids.size() > maxBatchIds) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        List<MenuDto> menuDtoList = menuDao.selectByIdsWithIsLiked(ids, member == null ? null : member.getId());
+        CollectionModel<MenuResponse> result = toCollectionModel(menuDtoList);
+        result.add(Link.of(ServletUriComponentsBuilder.fromCurrentRequest().toUriString()).withSelfRel());
+        result.add(Link.of("http://localhost:8080/docs/index.html#resources-query-menus-by-ids").withRel("profile"));
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/scroll")
+    public ResponseEntity scroll(@CurrentMember Member member, @PageableDefault(sort = {"name"}) Pageable pageable,
+                                 @RequestParam(required = false) String cursor) {
+        MenuCursor menuCursor = cursor == null ? MenuCursor.first(MenuSortPlan.of(pageable.getSort())) : MenuCursor.decode(cursor);
+        List<MenuDto> menuDtoList = menuDao.selectAllWithIsLiked(menuCursor, pageable.getPageSize() + 1, member == null ? null : member.getId());
+        boolean hasNext = menuDtoList.size() > pageable.getPageSize();
+        if(hasNext) {
+            menuDtoList = menuDtoList.subList(0, pageable.getPageSize());
+        }
+
+        String next = hasNext ? menuCursor.next(menuDtoList.get(menuDtoList.size() - 1)).encode() : null;
+        menuDtoList.forEach(likeCounter::merge);
+
+        CollectionModel<MenuResponse> result = toCollectionModel(menuDtoList);
+        result.add(Link.of(ServletUriComponentsBuilder.fromCurrentRequest().toUriString()).withSelfRel());
+        if(hasNext) {
+            result.add(Link.of(ServletUriComponentsBuilder.fromCurrentRequest().replaceQueryParam("cursor", next).toUriString()).withRel("next"));
+        }
+        result.add(Link.of("http://localhost:8080/docs/index.html#resources-query-menus-scroll").withRel("profile"));
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/popular")
+    public ResponseEntity popular(@RequestParam(defaultValue = "10") int size, @RequestParam(required = false) MealType mealType) {
+        if(size < 1 || size > MAX_POPULAR_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        List<MenuDto> menuDtoList = mealType == null ? menuLeaderboard.top(size) : menuLeaderboard.top(mealType, size);
+        CollectionModel<MenuResponse> result = toCollectionModel(menuDtoList);
+        result.add(Link.of(ServletUriComponentsBuilder.fromCurrentRequest().toUriString()).withSelfRel());
+        result.add(Link.of("http://localhost:8080/docs/index.html#resources-query-popular-menus").withRel("profile"));
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity menu(@CurrentMember Member member, @PathVariable long id) {
+    public ResponseEntity menu(@CurrentMember Member member, @PathVariable long id, WebRequest request) {
+        String eTag = contentVersions.menuTag(id, member);
+        if(request.checkNotModified(eTag)) {
+            return ConditionalResponses.notModified(eTag);
+        }
+
+        ContentVersions.Stamp stamp = contentVersions.stamp();
         Optional<MenuDto> optional = queryByOptional(member, id);
         if(!optional.isPresent()) {
             return ResponseEntity.notFound().build();
@@ -46,7 +126,12 @@ public class MenuController {
 
         MenuResponse menuResponse = new MenuResponse(optional.get());
         menuResponse.add(Link.of("http://localhost:8080/docs/index.html#resources-query-menu").withRel("profile"));
-        return ResponseEntity.ok(menuResponse);
+        return ConditionalResponses.ok(contentVersions.menuTag(id, stamp, member)).body(menuResponse);
+    }
+
+    private CollectionModel<MenuResponse> toCollectionModel(List<MenuDto> menuDtoList) {
+        MenuLinks links = MenuLinks.current();
+        return CollectionModel.of(menuDtoList.stream().map(menuDto -> new MenuResponse(menuDto, links)).collect(Collectors.toList()));
     }
 
     private Optional<MenuDto> queryByOptional(Member member, Long id) {
@@ -56,10 +141,10 @@ public class MenuController {
         return menuDao.selectByIdWithIsLiked(id, member.getId());
     }
 
-    private List<MenuDto> queryForList(Pageable pageable, Member member) {
+    private List<MenuDto> queryForList(MenuSortPlan plan, Pageable pageable, Member member) {
         if(member == null) {
-            return menuDao.selectAllWithIsLiked(pageable, null);
+            return menuDao.selectAllWithIsLiked(plan, pageable.getOffset(), pageable.getPageSize(), null);
         }
-        return menuDao.selectAllWithIsLiked(pageable, member.getId());
+        return menuDao.selectAllWithIsLiked(plan, pageable.getOffset(), pageable.getPageSize(), member.getId());
     }
 }
@@ -0,0 +1,29 @@
+package military.menu.review.ui.menu;
+
+import org.springframework.hateoas.Link;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+
+public class MenuLinks {
+    private final String base;
+
+    private MenuLinks(String base) {
+        this.base = base;
+    }
+
+    public static MenuLinks current() {
+        return new MenuLinks(linkTo(MenuController.class).toUri().toString());
+    }
+
+    public Link self(long id) {
+        return Link.of(base + "/" + id);
+    }
+
+    public Link like(long id) {
+        return Link.of(base + "/" + id + "/likes", "like");
+    }
+
+    public Link cancelLike(long id) {
+        return Link.of(base + "/" + id + "/cancel-like", "cancel-like");
+    }
+}
@@ -0,0 +1,161 @@
+package military.menu.review.application.like;
+
+import military.menu.review.application.member.MemberService;
+import military.menu.review.domain.member.Member;
+import military.menu.review.domain.member.MemberType;
+import military.menu.review.domain.menu.Menu;
+import military.menu.review.domain.menu.MenuDao;
+import military.menu.review.domain.menu.MenuRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class LikeCounterTest {
+    @Autowired
+    LikeService likeService;
+    @Autowired
+    LikeCounter likeCounter;
+    @Autowired
+    LikeCountFlusher likeCountFlusher;
+    @Autowired
+    MemberService memberService;
+    @Autowired
+    MenuRepository menuRepository;
+    @Autowired
+    MenuDao menuDao;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    Member member;
+    Menu menu;
+
+    @BeforeEach
+    void setUp() {
+        member = memberService.join(Member.of("wilgur513", "pass", "wilgur", MemberType.SOLDIER));
+        menu = menuRepository.saveAndFlush(Menu.of("밥", 100.0));
+    }
+
+    @Test
+    @DisplayName("좋아요는 메모리에 누적되고 조회 시 합산")
+    public void accumulateLike() throws Exception {
+        likeService.like(member, menu);
+
+        assertThat(likeCounter.pending(menu.getId())).isEqualTo(1);
+        assertThat(storedLikes()).isEqualTo(0);
+        assertThat(menuDao.selectByIdWithIsLiked(menu.getId(), null).get().getLike()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("누적된 좋아요를 데이터베이스에 일괄 반영")
+    public void flush() throws Exception {
+        likeService.like(member, menu);
+
+        assertThat(likeCountFlusher.flush()).isEqualTo(1);
+
+        assertThat(likeCounter.pending(menu.getId())).isEqualTo(0);
+        assertThat(storedLikes()).isEqualTo(1);
+        assertThat(menuDao.selectByIdWithIsLiked(menu.getId(), null).get().getLike()).isEqualTo(1);
+        assertThat(likeCountFlusher.flush()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 누적한 좋아요 수")
+    public void concurrentAdd() throws Exception {
+        LikeCounter counter = new LikeCounter();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for(int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                for(int j = 0; j < 1000; j++) {
+                    counter.add(1L, 1);
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        assertThat(counter.pending(1L)).isEqualTo(8000);
+    }
+
+    @Test
+    @DisplayName("커밋되지 않은 좋아요는 다른 스레드에서 보이지 않음")
+    public void uncommittedLikeIsInvisibleToOthers() throws Exception {
+        likeService.like(member, menu);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        long others = executor.submit(() -> likeCounter.pending(menu.getId())).get();
+        executor.shutdown();
+
+        assertThat(likeCounter.pending(menu.getId())).isEqualTo(1);
+        assertThat(others).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 좋아요는 반영하지 않고 커밋된 좋아요만 반영")
+    public void applyOnlyCommittedLikes() throws Exception {
+        LikeCounter counter = new LikeCounter();
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        requiresNew.execute(status -> {
+            counter.add(1L, 1);
+            status.setRollbackOnly();
+            return null;
+        });
+        assertThat(counter.pending(1L)).isEqualTo(0);
+
+        requiresNew.execute(status -> {
+            counter.add(1L, 1);
+            return null;
+        });
+        assertThat(counter.pending(1L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반영 중에 겹친 조회는 반영이 끝난 값을 조회")
+    public void readOverlappingFlush() throws Exception {
+        LikeCounter counter = new LikeCounter();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.submit(() -> counter.add(1L, 1)).get();
+        AtomicLong stored = new AtomicLong();
+        AtomicReference<Future<Long>> read = new AtomicReference<>();
+
+        counter.flush(deltas -> {
+            stored.addAndGet(deltas.get(1L));
+            read.set(executor.submit(() -> counter.read(() -> stored.get() + counter.pending(1L))));
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertThat(read.get().get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        executor.shutdown();
+    }
+
+    private long storedLikes() {
+        return jdbcTemplate.queryForObject("select likes from menu where menu_id = ?", Long.class, menu.getId());
+    }
+}
@@ -33,6 +33,8 @@ public class LikeServiceTest {
     MemberService memberService;
     @Autowired
     MenuRepository menuRepository;
+    @Autowired
+    LikeCounter likeCounter;
 
     @Test
     @DisplayName("메뉴에 좋아요 추가")
@@ -51,7 +53,7 @@ public class LikeServiceTest {
 
         assertThat(actualLike.getMember()).isEqualTo(member);
         assertThat(actualLike.getMenu()).isEqualTo(menu);
-        assertThat(actualMenu.getLike()).isEqualTo(1);
+        assertThat(likeCounter.likes(actualMenu)).isEqualTo(1);
     }
 
     @Test
@@ -67,6 +69,7 @@ public class LikeServiceTest {
         assertThrows(LikeIsAlreadyExistException.class, () -> {
            likeService.like(member, menu);
         });
+        assertThat(likeCounter.likes(menu)).isEqualTo(1);
     }
 
     @Test
@@ -82,7 +85,7 @@ public class LikeServiceTest {
 
         Optional<Like> likeOptional = likeRepository.findById(like.getId());
         assertThat(likeOptional.isPresent()).isFalse();
-        assertThat(menu.getLike()).isEqualTo(0);
+        assertThat(likeCounter.likes(menu)).isEqualTo(0);
     }
 
     @Test
@@ -96,5 +99,6 @@ public class LikeServiceTest {
         assertThrows(LikeIsNotExistException.class, () -> {
             likeService.cancel(member, menu);
         });
+        assertThat(likeCounter.likes(menu)).isEqualTo(0);
     }
 }
@@ -0,0 +1,37 @@
+package military.menu.review.application.like;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LikedMenuIdsTest {
+    @Test
+    @DisplayName("큰 메뉴 id도 포함 여부 확인")
+    public void containsLargeId() throws Exception {
+        LikedMenuIds ids = LikedMenuIds.of(Arrays.asList(5_000_000_000L, 3L, 3L));
+
+        assertThat(ids.size()).isEqualTo(2);
+        assertThat(ids.contains(5_000_000_000L)).isTrue();
+        assertThat(ids.contains(3L)).isTrue();
+        assertThat(ids.contains(4L)).isFalse();
+        assertThat(ids.contains(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("좋아요 추가, 취소 시 기존 목록은 그대로 두고 새 목록 반환")
+    public void with() throws Exception {
+        LikedMenuIds ids = LikedMenuIds.of(Arrays.asList(1L, 9L));
+
+        LikedMenuIds liked = ids.with(5L, true);
+        LikedMenuIds canceled = liked.with(1L, false);
+
+        assertThat(ids.contains(5L)).isFalse();
+        assertThat(liked.contains(1L) && liked.contains(5L) && liked.contains(9L)).isTrue();
+        assertThat(canceled.contains(1L)).isFalse();
+        assertThat(canceled.size()).isEqualTo(2);
+        assertThat(canceled.with(9L, true)).isSameAs(canceled);
+    }
+}
@@ -0,0 +1,79 @@
+package military.menu.review.application.like;
+
+import military.menu.review.application.member.MemberService;
+import military.menu.review.domain.like.LikeDao;
+import military.menu.review.domain.like.LikeRepository;
+import military.menu.review.domain.member.Member;
+import military.menu.review.domain.member.MemberType;
+import military.menu.review.domain.menu.Menu;
+import military.menu.review.domain.menu.MenuRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class LikedMenusTest {
+    @Autowired
+    LikedMenus likedMenus;
+    @Autowired
+    LikeService likeService;
+    @Autowired
+    LikeDao likeDao;
+    @Autowired
+    LikeRepository likeRepository;
+    @Autowired
+    MemberService memberService;
+    @Autowired
+    MenuRepository menuRepository;
+
+    Member member;
+    Menu menu;
+
+    @BeforeEach
+    void setUp() {
+        member = memberService.join(Member.of("wilgur513", "pass", "wilgur", MemberType.SOLDIER));
+        menu = menuRepository.save(Menu.of("밥", 100.0));
+    }
+
+    @Test
+    @DisplayName("좋아요와 취소 시 캐시된 좋아요 메뉴 목록 갱신")
+    public void updateOnLike() throws Exception {
+        assertThat(likedMenus.get(member.getId()).contains(menu.getId())).isFalse();
+
+        likeService.like(member, menu);
+        assertThat(likedMenus.get(member.getId()).contains(menu.getId())).isTrue();
+
+        likeService.cancel(member, menu);
+        assertThat(likedMenus.get(member.getId()).contains(menu.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("가장 오래 사용하지 않은 회원의 좋아요 메뉴 목록 제거")
+    public void evictLeastRecentlyUsed() throws Exception {
+        Member other = memberService.join(Member.of("other", "pass", "other", MemberType.SOLDIER));
+        LikedMenus cache = new LikedMenus(likeRepository, 1);
+        cache.get(member.getId());
+        likeDao.insertIfAbsent(member.getId(), menu.getId(), LocalDateTime.now());
+        assertThat(cache.get(member.getId()).contains(menu.getId())).isFalse();
+
+        cache.get(other.getId());
+
+        assertThat(cache.get(member.getId()).contains(menu.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("로그인하지 않은 사용자는 좋아요 메뉴 없음")
+    public void anonymous() throws Exception {
+        assertThat(likedMenus.get(null).size()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,125 @@
+package military.menu.review.application.meal;
+
+import military.menu.review.application.like.LikeService;
+import military.menu.review.application.like.LikedMenus;
+import military.menu.review.application.like.MenuLikeChangedEvent;
+import military.menu.review.application.member.MemberService;
+import military.menu.review.domain.meal.*;
+import military.menu.review.domain.member.Member;
+import military.menu.review.domain.member.MemberType;
+import military.menu.review.domain.menu.Menu;
+import military.menu.review.domain.menu.MenuDto;
+import military.menu.review.domain.menu.MenuRepository;
+import military.menu.review.mnd.importer.MndImportResult;
+import military.menu.review.mnd.sync.MndImportedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static java.time.LocalDate.of;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class WeeklyMealCacheTest {
+    static final LocalDate FIRST_DATE = of(2021, 9, 6);
+    static final LocalDate LAST_DATE = of(2021, 9, 12);
+
+    @Autowired
+    MenuRepository menuRepository;
+    @Autowired
+    MealRepository mealRepository;
+    @Autowired
+    SelectedMenuRepository selectedMenuRepository;
+    @Autowired
+    MemberService memberService;
+    @Autowired
+    LikeService likeService;
+    @Autowired
+    LikedMenus likedMenus;
+    @Autowired
+    MealDao mealDao;
+
+    WeeklyMealCache cache;
+    Meal meal;
+    Menu menu;
+
+    @BeforeEach
+    void setUp() {
+        cache = new WeeklyMealCache(mealDao, likedMenus, true, 2);
+        meal = mealRepository.save(Meal.of(FIRST_DATE, MealType.BREAKFAST));
+        menu = menuRepository.save(Menu.of("a", 1.0));
+        selectedMenuRepository.save(SelectedMenu.of(meal, menu));
+    }
+
+    @Test
+    @DisplayName("같은 주의 식단은 저장된 스냅샷으로 응답")
+    public void reuseSnapshot() throws Exception {
+        List<MealDto> first = cache.findWeek(FIRST_DATE, LAST_DATE, null);
+        selectedMenuRepository.save(SelectedMenu.of(meal, menuRepository.save(Menu.of("b", 2.0))));
+
+        List<MealDto> second = cache.findWeek(FIRST_DATE, LAST_DATE, null);
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.get(0).getMenus()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("저장할 수 있는 주 수를 넘으면 가장 오래 사용하지 않은 주를 제거")
+    public void evictLeastRecentlyUsedWeek() throws Exception {
+        List<MealDto> first = cache.findWeek(FIRST_DATE, LAST_DATE, null);
+        cache.findWeek(FIRST_DATE.plusWeeks(1), LAST_DATE.plusWeeks(1), null);
+        cache.findWeek(FIRST_DATE.plusWeeks(2), LAST_DATE.plusWeeks(2), null);
+
+        assertThat(cache.findWeek(FIRST_DATE, LAST_DATE, null)).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("로그인 사용자는 스냅샷에 좋아요 여부를 덧붙여 응답")
+    public void overlayLikedMenus() throws Exception {
+        Member member = memberService.join(Member.of("wilgur513", "pass", "", MemberType.SOLDIER));
+        likeService.like(member, menu);
+
+        MenuDto liked = cache.findWeek(FIRST_DATE, LAST_DATE, member).get(0).getMenus().get(0);
+        MenuDto anonymous = cache.findWeek(FIRST_DATE, LAST_DATE, null).get(0).getMenus().get(0);
+
+        assertThat(liked.isLogin()).isTrue();
+        assertThat(liked.isLiked()).isTrue();
+        assertThat(anonymous.isLogin()).isFalse();
+        assertThat(anonymous.isLiked()).isFalse();
+    }
+
+    @Test
+    @DisplayName("좋아요 변경 시 해당 메뉴가 포함된 주와 사용자 정보 무효화")
+    public void evictOnLikeChanged() throws Exception {
+        Member member = memberService.join(Member.of("wilgur513", "pass", "", MemberType.SOLDIER));
+        cache.findWeek(FIRST_DATE, LAST_DATE, member);
+        likeService.like(member, menu);
+        menuRepository.flush();
+
+        cache.evictImmediately(new MenuLikeChangedEvent(member.getId(), menu.getId(), 1));
+        MenuDto actual = cache.findWeek(FIRST_DATE, LAST_DATE, member).get(0).getMenus().get(0);
+
+        assertThat(actual.isLiked()).isTrue();
+        assertThat(actual.getLike()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("식단 데이터를 가져오면 전체 무효화")
+    public void evictOnImported() throws Exception {
+        cache.findWeek(FIRST_DATE, LAST_DATE, null);
+        selectedMenuRepository.save(SelectedMenu.of(meal, menuRepository.save(Menu.of("b", 2.0))));
+
+        cache.evictAll(new MndImportedEvent(MndImportResult.empty()));
+
+        assertThat(cache.findWeek(FIRST_DATE, LAST_DATE, null).get(0).getMenus()).hasSize(2);
+    }
+}
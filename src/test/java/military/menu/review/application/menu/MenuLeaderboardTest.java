@@ -0,0 +1,105 @@
+package military.menu.review.application.menu;
+
+import military.menu.review.application.like.LikeCounter;
+import military.menu.review.application.like.LikeService;
+import military.menu.review.application.like.MenuLikeChangedEvent;
+import military.menu.review.application.member.MemberService;
+import military.menu.review.domain.meal.*;
+import military.menu.review.domain.member.Member;
+import military.menu.review.domain.member.MemberType;
+import military.menu.review.domain.menu.Menu;
+import military.menu.review.domain.menu.MenuDao;
+import military.menu.review.domain.menu.MenuDto;
+import military.menu.review.domain.menu.MenuRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static java.time.LocalDate.of;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class MenuLeaderboardTest {
+    @Autowired
+    MenuRepository menuRepository;
+    @Autowired
+    MealRepository mealRepository;
+    @Autowired
+    SelectedMenuRepository selectedMenuRepository;
+    @Autowired
+    MemberService memberService;
+    @Autowired
+    LikeService likeService;
+    @Autowired
+    MenuDao menuDao;
+    @Autowired
+    LikeCounter likeCounter;
+
+    MenuLeaderboard leaderboard;
+    Member member;
+    Menu a;
+    Menu b;
+    Menu c;
+
+    @BeforeEach
+    void setUp() {
+        member = memberService.join(Member.of("wilgur513", "pass", "", MemberType.SOLDIER));
+        Meal breakfast = mealRepository.save(Meal.of(of(2021, 9, 6), MealType.BREAKFAST));
+        Meal lunch = mealRepository.save(Meal.of(of(2021, 9, 6), MealType.LUNCH));
+        a = menuRepository.save(Menu.of("a", 1.0));
+        b = menuRepository.save(Menu.of("b", 2.0));
+        c = menuRepository.save(Menu.of("c", 3.0));
+        selectedMenuRepository.save(SelectedMenu.of(breakfast, a));
+        selectedMenuRepository.save(SelectedMenu.of(breakfast, b));
+        selectedMenuRepository.save(SelectedMenu.of(lunch, c));
+        likeService.like(member, b);
+        menuRepository.flush();
+
+        leaderboard = new MenuLeaderboard(menuRepository, selectedMenuRepository, menuDao, likeCounter);
+        leaderboard.rebuild();
+    }
+
+    @Test
+    @DisplayName("데이터베이스에서 다시 만든 순위를 좋아요 수 순으로 조회")
+    public void topAfterRebuild() throws Exception {
+        assertThat(leaderboard.top(2)).extracting(MenuDto::getName).containsExactly("b", "a");
+        assertThat(leaderboard.top(MealType.BREAKFAST, 10)).extracting(MenuDto::getName).containsExactly("b", "a");
+        assertThat(leaderboard.top(MealType.LUNCH, 10)).extracting(MenuDto::getName).containsExactly("c");
+        assertThat(leaderboard.top(MealType.DINNER, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("좋아요 변경 시 전체와 식사 종류별 순위를 갱신")
+    public void updateOnLikeChanged() throws Exception {
+        Member other = memberService.join(Member.of("other", "pass", "", MemberType.SOLDIER));
+        likeService.like(member, c);
+        likeService.like(other, c);
+        likeService.cancel(member, b);
+
+        leaderboard.update(new MenuLikeChangedEvent(member.getId(), c.getId(), 1));
+        leaderboard.update(new MenuLikeChangedEvent(other.getId(), c.getId(), 1));
+        leaderboard.update(new MenuLikeChangedEvent(member.getId(), b.getId(), -1));
+
+        assertThat(leaderboard.top(3)).extracting(MenuDto::getName).containsExactly("c", "a", "b");
+        assertThat(leaderboard.top(3)).extracting(MenuDto::getLike).containsExactly(2L, 0L, 0L);
+        assertThat(leaderboard.top(MealType.BREAKFAST, 10)).extracting(MenuDto::getName).containsExactly("a", "b");
+    }
+
+    @Test
+    @DisplayName("같은 좋아요 변경 이벤트가 다시 도착해도 좋아요 수를 두 번 더하지 않음")
+    public void updateIsIdempotent() throws Exception {
+        likeService.like(member, c);
+
+        MenuLikeChangedEvent event = new MenuLikeChangedEvent(member.getId(), c.getId(), 1);
+        leaderboard.update(event);
+        leaderboard.update(event);
+
+        assertThat(leaderboard.top(1)).extracting(MenuDto::getLike).containsExactly(1L);
+    }
+}
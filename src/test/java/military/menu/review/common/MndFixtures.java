@@ -0,0 +1,40 @@
+package military.menu.review.common;
+
+import java.time.LocalDate;
+
+public class MndFixtures {
+    public static final LocalDate FIRST_DATE = LocalDate.of(2021, 9, 1);
+    public static final int ROWS_PER_DAY = 5;
+
+    public static String page(int totalCount, int startIndex, int endIndex) {
+        StringBuilder builder = new StringBuilder();
+        builder.append("{\"DS_TB_MNDT_DATEBYMLSVC_ATC\":{\"list_total_count\":").append(totalCount).append(",\"row\":[");
+
+        for(int index = startIndex; index <= endIndex; index++) {
+            if(index > startIndex) {
+                builder.append(',');
+            }
+            builder.append(row(index));
+        }
+
+        return builder.append("]}}").toString();
+    }
+
+    public static String row(int index) {
+        return String.format("{\"dates\":\"%s\",\"brst\":\"%s\",\"brst_cal\":\"%s\",\"lunc\":\"%s\",\"lunc_cal\":\"%s\"," +
+                        "\"dinr\":\"%s\",\"dinr_cal\":\"%s\",\"adspcfd\":\"\",\"adspcfd_cal\":\"\",\"sum_cal\":\"\"}",
+                date(index), breakfast(index), "100.5kcal", lunch(index), "200kcal", "", "");
+    }
+
+    public static LocalDate date(int index) {
+        return FIRST_DATE.plusDays((index - 1) / ROWS_PER_DAY);
+    }
+
+    public static String breakfast(int index) {
+        return "아침" + index + "(1.2.5)";
+    }
+
+    public static String lunch(int index) {
+        return "점심" + (index % 7);
+    }
+}
@@ -0,0 +1,124 @@
+package military.menu.review.common;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+public class MndStubServer {
+    private final HttpServer server;
+    private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+    private final Map<String, Integer> failuresBeforeSuccess = new ConcurrentHashMap<>();
+    private final AtomicInteger gzipResponses = new AtomicInteger();
+    private volatile int totalCount;
+    private volatile long delay;
+
+    public MndStubServer(int totalCount) throws IOException {
+        this.totalCount = totalCount;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", this::handle);
+    }
+
+    public MndStubServer start() {
+        server.start();
+        return this;
+    }
+
+    public void stop() {
+        server.stop(0);
+    }
+
+    public String baseUrl() {
+        return String.format("http://localhost:%d/mnd/", server.getAddress().getPort());
+    }
+
+    public void setTotalCount(int totalCount) {
+        this.totalCount = totalCount;
+    }
+
+    public void failBeforeSuccess(int startIndex, int endIndex, int failures) {
+        failuresBeforeSuccess.put(key(startIndex, endIndex), failures);
+    }
+
+    public void setDelay(long delay) {
+        this.delay = delay;
+    }
+
+    public int gzipResponses() {
+        return gzipResponses.get();
+    }
+
+    public int requestCount(int startIndex, int endIndex) {
+        AtomicInteger count = requestCounts.get(key(startIndex, endIndex));
+        return count == null ? 0 : count.get();
+    }
+
+    public Set<String> requestedRanges() {
+        return requestCounts.keySet();
+    }
+
+    public void clearRequests() {
+        requestCounts.clear();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String[] paths = exchange.getRequestURI().getPath().split("/");
+        int startIndex = Integer.parseInt(paths[paths.length - 2]);
+        int endIndex = Integer.parseInt(paths[paths.length - 1]);
+        String key = key(startIndex, endIndex);
+        int count = requestCounts.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+
+        if(count <= failuresBeforeSuccess.getOrDefault(key, 0)) {
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+            return;
+        }
+
+        sleep();
+        byte[] body = MndFixtures.page(totalCount, startIndex, Math.min(endIndex, totalCount)).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if(acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            body = gzip(body);
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            gzipResponses.incrementAndGet();
+        }
+        exchange.sendResponseHeaders(200, body.length);
+        try(OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+        }
+    }
+
+    private void sleep() {
+        if(delay <= 0) {
+            return;
+        }
+
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try(GZIPOutputStream os = new GZIPOutputStream(bytes)) {
+            os.write(body);
+        }
+        return bytes.toByteArray();
+    }
+
+    private String key(int startIndex, int endIndex) {
+        return startIndex + "/" + endIndex;
+    }
+}
@@ -0,0 +1,79 @@
+package military.menu.review.infra.like;
+
+import military.menu.review.application.member.MemberService;
+import military.menu.review.domain.like.LikeDao;
+import military.menu.review.domain.like.LikeRepository;
+import military.menu.review.domain.member.Member;
+import military.menu.review.domain.member.MemberType;
+import military.menu.review.domain.menu.Menu;
+import military.menu.review.domain.menu.MenuRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class LikeDaoImplTest {
+    @Autowired
+    LikeDao likeDao;
+    @Autowired
+    LikeRepository likeRepository;
+    @Autowired
+    MemberService memberService;
+    @Autowired
+    MenuRepository menuRepository;
+
+    Member member;
+    Menu menu;
+
+    @BeforeEach
+    void setUp() {
+        member = memberService.join(Member.of("wilgur513", "pass", "wilgur", MemberType.SOLDIER));
+        menu = menuRepository.save(Menu.of("밥", 100.0));
+    }
+
+    @Test
+    @DisplayName("이미 존재하는 좋아요는 추가하지 않음")
+    public void insertIfAbsent() throws Exception {
+        Optional<Long> first = likeDao.insertIfAbsent(member.getId(), menu.getId(), LocalDateTime.now());
+        Optional<Long> second = likeDao.insertIfAbsent(member.getId(), menu.getId(), LocalDateTime.now());
+
+        assertThat(first).isPresent();
+        assertThat(second).isEmpty();
+        assertThat(likeRepository.findById(first.get())).isPresent();
+        assertThat(likeRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제한 좋아요 수 반환")
+    public void delete() throws Exception {
+        likeDao.insertIfAbsent(member.getId(), menu.getId(), LocalDateTime.now());
+
+        assertThat(likeDao.delete(member.getId(), menu.getId())).isEqualTo(1);
+        assertThat(likeDao.delete(member.getId(), menu.getId())).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("여러 좋아요를 일괄 추가 및 삭제")
+    public void batch() throws Exception {
+        Menu other = menuRepository.save(Menu.of("국", 50.0));
+        likeDao.insertIfAbsent(member.getId(), menu.getId(), LocalDateTime.now());
+
+        assertThat(likeDao.insertAllIfAbsent(member.getId(), Arrays.asList(menu.getId(), other.getId()), LocalDateTime.now()))
+                .containsExactly(other.getId());
+        assertThat(likeDao.deleteAll(member.getId(), Arrays.asList(other.getId(), other.getId() + 10000)))
+                .containsExactly(other.getId());
+        assertThat(likeRepository.count()).isEqualTo(1);
+    }
+}
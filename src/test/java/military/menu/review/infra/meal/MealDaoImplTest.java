@@ -18,6 +18,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collections;
 import java.util.List;
 
 import static java.time.LocalDate.*;
@@ -40,7 +41,9 @@ public class MealDaoImplTest {
     @Autowired
     JdbcTemplate jdbcTemplate;
     @Autowired
-    MealDaoImpl mealDao;
+    MealMenuViewProjector projector;
+    @Autowired
+    MealDao mealDao;
 
     @Test
     @DisplayName("식단표가 하나일 때 조회")
@@ -186,7 +189,9 @@ public class MealDaoImplTest {
     }
 
     private SelectedMenu saveSelectedMenu(Meal meal, Menu menu) {
-        return selectedMenuRepository.save(SelectedMenu.of(meal, menu));
+        SelectedMenu selectedMenu = selectedMenuRepository.saveAndFlush(SelectedMenu.of(meal, menu));
+        projector.refresh(Collections.singleton(meal.getId()));
+        return selectedMenu;
     }
 
 }
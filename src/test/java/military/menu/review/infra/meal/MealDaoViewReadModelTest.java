@@ -0,0 +1,16 @@
+package military.menu.review.infra.meal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "meal.readModel=view")
+public class MealDaoViewReadModelTest extends MealDaoImplTest {
+    @Test
+    @DisplayName("읽기 모델 설정 시 읽기 모델 DAO 사용")
+    public void useViewDao() throws Exception {
+        assertThat(mealDao).isInstanceOf(MealMenuViewDao.class);
+    }
+}
@@ -0,0 +1,142 @@
+package military.menu.review.infra.meal;
+
+import military.menu.review.application.like.LikeCountFlusher;
+import military.menu.review.application.like.LikeCounter;
+import military.menu.review.application.like.LikeService;
+import military.menu.review.application.like.LikedMenus;
+import military.menu.review.application.member.MemberService;
+import military.menu.review.domain.meal.*;
+import military.menu.review.domain.member.Member;
+import military.menu.review.domain.member.MemberType;
+import military.menu.review.domain.menu.Menu;
+import military.menu.review.domain.menu.MenuDto;
+import military.menu.review.domain.menu.MenuRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.time.LocalDate.of;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "meal.readModel=view")
+@ActiveProfiles("test")
+@Transactional
+public class MealMenuViewDaoTest {
+    @Autowired
+    MenuRepository menuRepository;
+    @Autowired
+    MealRepository mealRepository;
+    @Autowired
+    SelectedMenuRepository selectedMenuRepository;
+    @Autowired
+    MemberService memberService;
+    @Autowired
+    LikeService likeService;
+    @Autowired
+    MealMenuViewProjector projector;
+    @Autowired
+    MealDao mealDao;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    LikeCounter likeCounter;
+    @Autowired
+    LikedMenus likedMenus;
+    @Autowired
+    LikeCountFlusher likeCountFlusher;
+
+    Meal breakfast;
+    Meal lunch;
+    Menu a;
+    Menu b;
+    Menu c;
+
+    @BeforeEach
+    void setUp() {
+        breakfast = mealRepository.save(Meal.of(of(2021, 9, 6), MealType.BREAKFAST));
+        lunch = mealRepository.save(Meal.of(of(2021, 9, 8), MealType.LUNCH));
+        c = menuRepository.save(Menu.of("c", 3.0));
+        b = menuRepository.save(Menu.of("b", 2.0));
+        a = menuRepository.save(Menu.of("a", 1.0));
+        selectedMenuRepository.save(SelectedMenu.of(breakfast, b));
+        selectedMenuRepository.save(SelectedMenu.of(breakfast, a));
+        selectedMenuRepository.save(SelectedMenu.of(lunch, c));
+        selectedMenuRepository.flush();
+        projector.rebuild();
+    }
+
+    @Test
+    @DisplayName("읽기 모델에서 날짜, 식사 종류, 이름 순으로 조회")
+    public void selectFromView() throws Exception {
+        assertThat(mealDao).isInstanceOf(MealMenuViewDao.class);
+
+        List<MealDto> actual = mealDao.selectByDateBetweenWithIsLiked(of(2021, 9, 5), of(2021, 9, 9), null);
+
+        assertThat(actual).extracting(MealDto::getId).containsExactly(breakfast.getId(), lunch.getId());
+        assertThat(names(actual.get(0))).containsExactly("a", "b");
+        assertThat(names(actual.get(1))).containsExactly("c");
+        assertThat(actual.get(0).getMenus().get(1).getKcal()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("좋아요 수는 읽기 모델에 반영되고 좋아요 여부는 사용자별로 덧씌움")
+    public void overlayIsLiked() throws Exception {
+        Member member = memberService.join(Member.of("wilgur513", "pass", "", MemberType.SOLDIER));
+        likeService.like(member, b);
+
+        MealDto actual = mealDao.selectByIdWithIsLiked(breakfast.getId(), member);
+
+        assertThat(actual.getMenus()).extracting(MenuDto::isLiked).containsExactly(false, true);
+        assertThat(actual.getMenus()).extracting(MenuDto::getLike).containsExactly(0L, 1L);
+        assertThat(mealDao.selectByIdWithIsLiked(breakfast.getId(), null).getMenus())
+                .extracting(MenuDto::isLiked).containsExactly(false, false);
+    }
+
+    @Test
+    @DisplayName("같은 데이터에 대해 조인 조회와 같은 결과")
+    public void sameResultAsJoin() throws Exception {
+        Member member = memberService.join(Member.of("wilgur513", "pass", "", MemberType.SOLDIER));
+        Member other = memberService.join(Member.of("other", "pass", "", MemberType.SOLDIER));
+        likeService.like(other, a);
+        likeService.like(other, c);
+        likeCountFlusher.flush();
+        likeService.like(member, c);
+        MealDao joinDao = new MealDaoImpl(jdbcTemplate, likeCounter, likedMenus);
+
+        for(Member viewer : Arrays.asList(member, null)) {
+            assertThat(mealDao.selectByDateBetweenWithIsLiked(of(2021, 9, 5), of(2021, 9, 9), viewer))
+                    .usingRecursiveComparison()
+                    .isEqualTo(joinDao.selectByDateBetweenWithIsLiked(of(2021, 9, 5), of(2021, 9, 9), viewer));
+            assertThat(stream(mealDao, viewer)).usingRecursiveComparison().isEqualTo(stream(joinDao, viewer));
+            assertThat(mealDao.selectByIdWithIsLiked(breakfast.getId(), viewer))
+                    .usingRecursiveComparison()
+                    .isEqualTo(joinDao.selectByIdWithIsLiked(breakfast.getId(), viewer));
+        }
+        assertThat(mealDao.selectByDateBetween(of(2021, 9, 5), of(2021, 9, 9)))
+                .usingRecursiveComparison()
+                .isEqualTo(joinDao.selectByDateBetween(of(2021, 9, 5), of(2021, 9, 9)));
+        assertThat(mealDao.selectByIdWithIsLiked(lunch.getId(), member).getMenus())
+                .extracting(MenuDto::getLike).containsExactly(2L);
+    }
+
+    private List<MealDto> stream(MealDao dao, Member member) {
+        List<MealDto> meals = new ArrayList<>();
+        dao.selectByDateBetweenWithIsLiked(of(2021, 9, 5), of(2021, 9, 9), member, meals::add);
+        return meals;
+    }
+
+    private List<String> names(MealDto meal) {
+        List<String> names = new ArrayList<>();
+        meal.getMenus().forEach(menu -> names.add(menu.getName()));
+        return names;
+    }
+}
@@ -1,21 +1,21 @@
 package military.menu.review.infra.menu;
 
+import military.menu.review.application.like.LikeCountFlusher;
 import military.menu.review.application.like.LikeService;
 import military.menu.review.application.member.MemberService;
 import military.menu.review.domain.member.MemberType;
 import military.menu.review.domain.member.Member;
 import military.menu.review.domain.menu.Menu;
+import military.menu.review.domain.menu.MenuCursor;
 import military.menu.review.domain.menu.MenuDao;
 import military.menu.review.domain.menu.MenuDto;
 import military.menu.review.domain.menu.MenuRepository;
+import military.menu.review.domain.menu.MenuSortPlan;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,6 +36,8 @@ public class MenuDaoImplTest {
     @Autowired
     LikeService likeService;
     @Autowired
+    LikeCountFlusher likeCountFlusher;
+    @Autowired
     MemberService memberService;
     @Autowired
     MenuDao dao;
@@ -96,25 +98,54 @@ public class MenuDaoImplTest {
         saveMenus();
         likeService.like(member, menu);
         em.flush();
+        likeCountFlusher.flush();
 
-        Pageable pageable = PageRequest.of(0, 3, Sort.by(Sort.Direction.ASC, "menu_id"));
-        List<MenuDto> menuDtoList = dao.selectAllWithIsLiked(pageable, member.getId());
+        List<MenuDto> menuDtoList = dao.selectAllWithIsLiked(MenuSortPlan.LIKES_DESC, 0, 3, member.getId());
 
         assertThat(menuDtoList).hasSize(3);
         assertThat(menuDtoList.get(0).getName()).isEqualTo(MENU_NAME);
         assertThat(menuDtoList.get(0).getKcal()).isEqualTo(KCAL);
         assertThat(menuDtoList.get(0).getLike()).isEqualTo(1L);
         assertThat(menuDtoList.get(0).isLiked()).isTrue();
-        assertThat(menuDtoList.get(1).getName()).isEqualTo("b");
-        assertThat(menuDtoList.get(1).getKcal()).isEqualTo(2.0);
+        assertThat(menuDtoList.get(1).getName()).isEqualTo("j");
+        assertThat(menuDtoList.get(1).getKcal()).isEqualTo(10.0);
         assertThat(menuDtoList.get(1).getLike()).isEqualTo(0L);
         assertThat(menuDtoList.get(1).isLiked()).isFalse();
-        assertThat(menuDtoList.get(2).getName()).isEqualTo("c");
-        assertThat(menuDtoList.get(2).getKcal()).isEqualTo(3.0);
+        assertThat(menuDtoList.get(2).getName()).isEqualTo("i");
+        assertThat(menuDtoList.get(2).getKcal()).isEqualTo(9.0);
         assertThat(menuDtoList.get(2).getLike()).isEqualTo(0L);
         assertThat(menuDtoList.get(2).isLiked()).isFalse();
     }
 
+    @Test
+    @DisplayName("여러 메뉴를 요청한 순서대로 한 번에 조회")
+    public void selectByIdsWithIsLiked() throws Exception {
+        saveMenus();
+        likeService.like(member, menu);
+        em.flush();
+        Menu c = menuRepository.findByName("c");
+
+        List<MenuDto> menuDtoList = dao.selectByIdsWithIsLiked(Arrays.asList(c.getId(), menu.getId() + 10000, menu.getId()), member.getId());
+
+        assertThat(menuDtoList).extracting(MenuDto::getName).containsExactly("c", MENU_NAME);
+        assertThat(menuDtoList).extracting(MenuDto::isLiked).containsExactly(false, true);
+    }
+
+    @Test
+    @DisplayName("칼로리 내림차순 정렬 계획으로 페이지와 커서 조회")
+    public void selectAllBySortPlan() throws Exception {
+        saveMenus();
+
+        List<MenuDto> page = dao.selectAllWithIsLiked(MenuSortPlan.KCAL_DESC, 3, 3, null);
+        MenuCursor cursor = MenuCursor.first(MenuSortPlan.KCAL_DESC);
+        List<MenuDto> first = dao.selectAllWithIsLiked(cursor, 3, null);
+        List<MenuDto> second = dao.selectAllWithIsLiked(cursor.next(first.get(2)), 3, null);
+
+        assertThat(first).extracting(MenuDto::getName).containsExactly(MENU_NAME, "j", "i");
+        assertThat(page).extracting(MenuDto::getName).containsExactly("h", "g", "f");
+        assertThat(second).extracting(MenuDto::getName).containsExactly("h", "g", "f");
+    }
+
     private void saveMenus() {
         List<Menu> menus = Arrays.asList(
                 Menu.of("b", 2.0), Menu.of("c", 3.0),
@@ -0,0 +1,86 @@
+package military.menu.review.mnd;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import military.menu.review.common.MndStubServer;
+import military.menu.review.mnd.api.MndApi;
+import military.menu.review.mnd.api.source.HttpMndDataSource;
+import military.menu.review.mnd.importer.MndImporter;
+import military.menu.review.mnd.sync.MndSyncService;
+import military.menu.review.mnd.sync.MndSyncStateRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.RestTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class MndIngestionServiceTest {
+    @Autowired
+    MndImporter importer;
+    @Autowired
+    MndSyncStateRepository syncStateRepository;
+    @Autowired
+    ApplicationEventPublisher eventPublisher;
+
+    MndStubServer server;
+    ThreadPoolTaskScheduler scheduler;
+    MeterRegistry registry;
+    MndIngestionService ingestionService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new MndStubServer(20).start();
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.initialize();
+        registry = new SimpleMeterRegistry();
+
+        HttpMndDataSource dataSource = new HttpMndDataSource(new RestTemplate(), new SimpleMeterRegistry());
+        dataSource.setBaseUrl(server.baseUrl());
+        MndApi api = new MndApi(dataSource);
+        api.setPageSize(10);
+        api.setThreads(2);
+        api.setMaxAttempts(1);
+        ingestionService = new MndIngestionService(new MndSyncService(api, importer, syncStateRepository, eventPublisher), scheduler, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+        server.stop();
+    }
+
+    @Test
+    @DisplayName("가져오기 결과를 지표로 기록")
+    public void recordMetrics() throws Exception {
+        ingestionService.ingest();
+
+        assertThat(registry.get("mnd.ingestion").timer().count()).isEqualTo(1);
+        assertThat(registry.get("mnd.ingestion.last.rows").gauge().value()).isEqualTo(20);
+        assertThat(registry.get("mnd.ingestion.last.inserted.selected-menus").gauge().value()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("요청 구간 실패 시 실패 횟수 기록")
+    public void recordFailure() throws Exception {
+        server.stop();
+
+        try {
+            ingestionService.ingest();
+        } catch (RuntimeException ignored) {
+        }
+
+        assertThat(registry.get("mnd.ingestion.failures").counter().count()).isEqualTo(1);
+        assertThat(ingestionService.isRunning()).isFalse();
+    }
+}
@@ -0,0 +1,86 @@
+package military.menu.review.mnd.api;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import military.menu.review.common.MndStubServer;
+import military.menu.review.mnd.api.dto.MndMealDTO;
+import military.menu.review.mnd.api.exception.MndPageRequestException;
+import military.menu.review.mnd.api.parser.MndDataParser;
+import military.menu.review.mnd.api.source.HttpMndDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MndApiTest {
+    static final int TOTAL_COUNT = 95;
+    static final int PAGE_SIZE = 10;
+
+    MndStubServer server;
+    MndApi api;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MndStubServer(TOTAL_COUNT).start();
+
+        HttpMndDataSource dataSource = new HttpMndDataSource(new RestTemplate(), new SimpleMeterRegistry());
+        dataSource.setBaseUrl(server.baseUrl());
+        api = new MndApi(dataSource);
+        api.setPageSize(PAGE_SIZE);
+        api.setThreads(3);
+        api.setMaxAttempts(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    @DisplayName("전체 구간을 페이지 단위로 나누어 조회")
+    public void parseByPage() throws Exception {
+        List<MndMealDTO> result = parseAllPages();
+
+        assertThat(result).hasSize(TOTAL_COUNT);
+        assertThat(result.stream().map(dto -> dto.getBreakfast().getName()).collect(Collectors.toSet()))
+                .isEqualTo(IntStream.rangeClosed(1, TOTAL_COUNT).mapToObj(i -> "아침" + i).collect(Collectors.toSet()));
+        assertThat(server.requestedRanges()).contains("1/1", "1/10", "11/20", "91/95");
+        assertThat(server.requestedRanges()).doesNotContain("1/95");
+    }
+
+    @Test
+    @DisplayName("실패한 페이지만 다시 요청")
+    public void retryFailedPage() throws Exception {
+        server.failBeforeSuccess(31, 40, 2);
+
+        List<MndMealDTO> result = parseAllPages();
+
+        assertThat(result).hasSize(TOTAL_COUNT);
+        assertThat(server.requestCount(31, 40)).isEqualTo(3);
+        assertThat(server.requestCount(21, 30)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 초과한 페이지는 실패")
+    public void failAfterMaxAttempts() throws Exception {
+        server.failBeforeSuccess(51, 60, 3);
+
+        assertThrows(MndPageRequestException.class, this::parseAllPages);
+        assertThat(server.requestCount(51, 60)).isEqualTo(3);
+    }
+
+    private List<MndMealDTO> parseAllPages() {
+        List<MndMealDTO> result = new ArrayList<>();
+        api.parseByPage(new MndDataParser(), result::addAll);
+        return result;
+    }
+}
@@ -0,0 +1,58 @@
+package military.menu.review.mnd.api.convertor;
+
+import military.menu.review.common.MndFixtures;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonToMenuConvertorBenchmark {
+    private static final int ROWS = 1000;
+
+    String[][] rows = new String[ROWS][];
+    JsonToMenuConvertor convertor = new JsonToBreakfastConvertor();
+
+    @Setup
+    public void setUp() {
+        for(int i = 0; i < ROWS; i++) {
+            rows[i] = new String[]{
+                    MndFixtures.breakfast(i + 1), "100.5kcal",
+                    MndFixtures.lunch(i + 1), "200kcal",
+                    "", ""
+            };
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void regex(Blackhole blackhole) {
+        for(String[] row : rows) {
+            for(int i = 0; i < row.length; i += 2) {
+                blackhole.consume(JsonToMenuConvertorTest.convertByRegex(row[i], row[i + 1]));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void scanner(Blackhole blackhole) {
+        for(String[] row : rows) {
+            for(int i = 0; i < row.length; i += 2) {
+                blackhole.consume(convertor.convert(row[i], row[i + 1]));
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JsonToMenuConvertorBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,64 @@
+package military.menu.review.mnd.api.convertor;
+
+import military.menu.review.mnd.api.dto.MndMenuDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonToMenuConvertorTest {
+    private static final String[] CALORIES = {
+            "100kcal", "100.5kcal", "100.kcal", ".5kcal", "kcal", "100", "100.5 kcal", "１００kcal", "", null
+    };
+
+    JsonToMenuConvertor convertor = new JsonToBreakfastConvertor();
+
+    @Test
+    @DisplayName("정규식 기반 변환과 같은 칼로리")
+    public void sameCalorieAsRegex() throws Exception {
+        for(String calorie : CALORIES) {
+            assertThat(convertor.convert("밥", calorie).get().getKcal())
+                    .isEqualTo(convertByRegex("밥", calorie).get().getKcal());
+        }
+    }
+
+    @Test
+    @DisplayName("메뉴 이름 정규화")
+    public void normalizeMenuName() throws Exception {
+        assertThat(nameOf("쇠고기무국(5.6.16)")).isEqualTo("쇠고기무국");
+        assertThat(nameOf(" 돈육김치볶음 (9.10) ")).isEqualTo("돈육김치볶음");
+        assertThat(nameOf("닭(1)튀김(2)")).isEqualTo("닭튀김");
+        assertThat(nameOf("ｃｏｆｆｅｅ（１．２）")).isEqualTo("coffee");
+        assertThat(nameOf("김치  찌개\t(1)")).isEqualTo("김치 찌개");
+        assertThat(nameOf("괄호(열림")).isEqualTo("괄호(열림");
+    }
+
+    @Test
+    @DisplayName("같은 이름으로 정규화되면 같은 인스턴스 사용")
+    public void internMenuName() throws Exception {
+        assertThat(nameOf("쌀밥(1)")).isSameAs(nameOf(" 쌀밥 "));
+    }
+
+    @Test
+    @DisplayName("이름이 비어 있으면 메뉴 없음")
+    public void emptyMenu() throws Exception {
+        assertThat(convertor.convert("   ", "100kcal")).isEmpty();
+        assertThat(convertor.convert("(1.2)", "100kcal")).isEmpty();
+        assertThat(convertor.convert(null, "100kcal")).isEmpty();
+    }
+
+    private String nameOf(String name) {
+        return convertor.convert(name, "").get().getName();
+    }
+
+    static Optional<MndMenuDTO> convertByRegex(String name, String calorie) {
+        if(name == null || name.trim().equals("")) {
+            return Optional.empty();
+        }
+
+        double kcal = calorie != null && calorie.matches("\\d+(\\.\\d+)?kcal") ? Double.parseDouble(calorie.replaceAll("kcal", "")) : 0.0;
+        return Optional.of(MndMenuDTO.of(name.replaceAll("\\(.*\\)", ""), kcal));
+    }
+}
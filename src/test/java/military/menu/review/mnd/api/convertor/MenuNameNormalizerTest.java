@@ -0,0 +1,28 @@
+package military.menu.review.mnd.api.convertor;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MenuNameNormalizerTest {
+    @Test
+    @DisplayName("괄호와 중복 공백을 제거한 메뉴 이름")
+    public void normalize() throws Exception {
+        MenuNameNormalizer normalizer = new MenuNameNormalizer();
+
+        assertThat(normalizer.normalize("김치  찌개(돼지고기)")).isEqualTo("김치 찌개");
+    }
+
+    @Test
+    @DisplayName("사전 크기 제한을 넘으면 더 이상 저장하지 않음")
+    public void maxEntries() throws Exception {
+        MenuNameNormalizer normalizer = new MenuNameNormalizer(4);
+
+        for(int i = 0; i < 100; i++) {
+            assertThat(normalizer.normalize(" 밥" + i + " ")).isEqualTo("밥" + i);
+        }
+
+        assertThat(normalizer.size()).isLessThanOrEqualTo(4);
+    }
+}
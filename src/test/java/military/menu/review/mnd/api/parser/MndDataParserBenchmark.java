@@ -0,0 +1,45 @@
+package military.menu.review.mnd.api.parser;
+
+import military.menu.review.common.MndFixtures;
+import military.menu.review.mnd.api.dto.MndMealDTO;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MndDataParserBenchmark {
+    @Param({"10000", "100000"})
+    int rowCount;
+    String json;
+    MndDataParser mapParser = new MndDataParser();
+    MndStreamingDataParser streamingParser = new MndStreamingDataParser();
+
+    @Setup
+    public void setUp() {
+        json = MndFixtures.page(rowCount, 1, rowCount);
+    }
+
+    @Benchmark
+    public List<MndMealDTO> mapParser() {
+        return mapParser.parse(json);
+    }
+
+    @Benchmark
+    public void streamingParser(Blackhole blackhole) {
+        streamingParser.parse(json, blackhole::consume);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MndDataParserBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,89 @@
+package military.menu.review.mnd.api.parser;
+
+import military.menu.review.common.MndFixtures;
+import military.menu.review.mnd.api.dto.MndMealDTO;
+import military.menu.review.mnd.api.dto.MndMenuDTO;
+import military.menu.review.mnd.api.exception.MndRowParseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MndStreamingDataParserTest {
+    MndStreamingDataParser parser = new MndStreamingDataParser();
+
+    @Test
+    @DisplayName("Map 기반 파서와 같은 결과")
+    public void sameResultAsMapBasedParser() throws Exception {
+        String json = MndFixtures.page(30, 1, 30);
+
+        List<MndMealDTO> expected = new MndDataParser().parse(json);
+        List<MndMealDTO> actual = parser.parse(json);
+
+        assertThat(actual).hasSize(expected.size());
+        for(int i = 0; i < expected.size(); i++) {
+            assertThat(actual.get(i).getDate()).isEqualTo(expected.get(i).getDate());
+            assertSameMenu(actual.get(i).getBreakfast(), expected.get(i).getBreakfast());
+            assertSameMenu(actual.get(i).getLunch(), expected.get(i).getLunch());
+            assertSameMenu(actual.get(i).getDinner(), expected.get(i).getDinner());
+        }
+    }
+
+    @Test
+    @DisplayName("행 단위로 전달하고 알 수 없는 필드는 무시")
+    public void emitRowsAndSkipUnknownFields() throws Exception {
+        String json = "{\"DS_TB_MNDT_DATEBYMLSVC_ATC\":{\"list_total_count\":1,\"RESULT\":{\"CODE\":\"INFO-000\"}," +
+                "\"row\":[{\"extra\":{\"a\":[1,2]},\"dates\":\" 2021-09-01 \",\"brst\":\"밥(1)\",\"brst_cal\":\"10.5kcal\"," +
+                "\"lunc\":\" \",\"lunc_cal\":\"\",\"dinr\":\"국\",\"dinr_cal\":\"없음\"}]}}";
+        List<MndMealDTO> result = new ArrayList<>();
+
+        parser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), result::add);
+
+        assertThat(result).hasSize(1);
+        MndMealDTO dto = result.get(0);
+        assertThat(dto.getDate()).isEqualTo("2021-09-01");
+        assertThat(dto.getBreakfast().getName()).isEqualTo("밥");
+        assertThat(dto.getBreakfast().getKcal()).isEqualTo(10.5);
+        assertThat(dto.getLunch()).isNull();
+        assertThat(dto.getDinner().getName()).isEqualTo("국");
+        assertThat(dto.getDinner().getKcal()).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("날짜가 없거나 null인 행은 행 번호와 함께 파싱 오류")
+    public void rowWithoutDate() throws Exception {
+        String missing = "{\"DS_TB_MNDT_DATEBYMLSVC_ATC\":{\"row\":[{\"dates\":\"2021-09-01\",\"brst\":\"밥\"}," +
+                "{\"brst\":\"국\"}]}}";
+        String nullDate = "{\"DS_TB_MNDT_DATEBYMLSVC_ATC\":{\"row\":[{\"dates\":null,\"brst\":\"밥\"}]}}";
+
+        assertThatThrownBy(() -> parser.parse(missing))
+                .isInstanceOf(MndRowParseException.class)
+                .hasMessageContaining("1번째 행");
+        assertThatThrownBy(() -> parser.parse(nullDate))
+                .isInstanceOf(MndRowParseException.class)
+                .hasMessageContaining("0번째 행");
+    }
+
+    @Test
+    @DisplayName("행 정보가 없는 응답")
+    public void emptyRows() throws Exception {
+        String json = "{\"RESULT\":{\"CODE\":\"INFO-200\",\"MESSAGE\":\"해당하는 데이터가 없습니다.\"}}";
+
+        assertThat(parser.parse(json)).isEmpty();
+    }
+
+    private void assertSameMenu(MndMenuDTO actual, MndMenuDTO expected) {
+        if(expected == null) {
+            assertThat(actual).isNull();
+            return;
+        }
+        assertThat(actual.getName()).isEqualTo(expected.getName());
+        assertThat(actual.getKcal()).isEqualTo(expected.getKcal());
+    }
+}
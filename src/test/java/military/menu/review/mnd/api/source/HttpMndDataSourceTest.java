@@ -0,0 +1,68 @@
+package military.menu.review.mnd.api.source;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import military.menu.review.common.MndStubServer;
+import military.menu.review.mnd.api.dto.MndMealDTO;
+import military.menu.review.mnd.api.exception.MndSourceRequestException;
+import military.menu.review.mnd.api.parser.MndStreamingDataParser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = "mnd.http.readTimeout=500")
+@ActiveProfiles("test")
+public class HttpMndDataSourceTest {
+    @Autowired
+    @Qualifier("mndRestTemplate")
+    RestTemplate template;
+
+    MndStubServer server;
+    MeterRegistry registry;
+    HttpMndDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new MndStubServer(30).start();
+        registry = new SimpleMeterRegistry();
+        dataSource = new HttpMndDataSource(template, registry);
+        dataSource.setBaseUrl(server.baseUrl());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    @DisplayName("gzip 응답을 스트림으로 파싱하고 전송량 기록")
+    public void requestGzip() throws Exception {
+        List<MndMealDTO> result = dataSource.request(1, 10, new MndStreamingDataParser());
+
+        assertThat(result).hasSize(10);
+        assertThat(server.gzipResponses()).isEqualTo(1);
+        assertThat(registry.get("mnd.http.ttfb").timer().count()).isEqualTo(1);
+        double transferred = registry.get("mnd.http.bytes").tag("encoding", "transferred").summary().totalAmount();
+        double decoded = registry.get("mnd.http.bytes").tag("encoding", "decoded").summary().totalAmount();
+        assertThat(transferred).isPositive().isLessThan(decoded);
+    }
+
+    @Test
+    @DisplayName("응답이 읽기 제한 시간을 넘으면 실패")
+    public void readTimeout() throws Exception {
+        server.setDelay(1000);
+
+        assertThrows(MndSourceRequestException.class, () -> dataSource.request(1, 10, new MndStreamingDataParser()));
+    }
+}
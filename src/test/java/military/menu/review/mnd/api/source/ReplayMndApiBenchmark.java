@@ -0,0 +1,63 @@
+package military.menu.review.mnd.api.source;
+
+import military.menu.review.common.MndFixtures;
+import military.menu.review.mnd.api.MndApi;
+import military.menu.review.mnd.api.parser.MndStreamingDataParser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReplayMndApiBenchmark {
+    @Param({"100000"})
+    int rowCount;
+    @Param({"0", "50"})
+    long latency;
+    @Param({"1000"})
+    int pageSize;
+    Path dump;
+    MndApi api;
+
+    @Setup
+    public void setUp() throws IOException {
+        dump = Files.createTempFile("mnd-dump", ".json");
+        Files.write(dump, MndFixtures.page(rowCount, 1, rowCount).getBytes(StandardCharsets.UTF_8));
+
+        ReplayMndDataSource dataSource = new ReplayMndDataSource();
+        dataSource.setPath(dump.toString());
+        dataSource.setLatency(latency);
+        dataSource.setMaxPageSize(pageSize);
+
+        api = new MndApi(dataSource);
+        api.setPageSize(pageSize);
+        api.setThreads(4);
+        api.setMaxAttempts(1);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(dump);
+    }
+
+    @Benchmark
+    public void parseByPage(Blackhole blackhole) {
+        api.parseByPage(new MndStreamingDataParser(), blackhole::consume);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ReplayMndApiBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,75 @@
+package military.menu.review.mnd.api.source;
+
+import military.menu.review.common.MndFixtures;
+import military.menu.review.mnd.api.MndApi;
+import military.menu.review.mnd.api.dto.MndMealDTO;
+import military.menu.review.mnd.api.exception.MndReplayPageSizeException;
+import military.menu.review.mnd.api.parser.MndApiDataParser;
+import military.menu.review.mnd.api.parser.MndStreamingDataParser;
+import military.menu.review.mnd.api.parser.TotalCountParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ReplayMndDataSourceTest {
+    static final int TOTAL_COUNT = 95;
+    static final MndApiDataParser<String> RAW = new MndApiDataParser<String>() {
+        @Override
+        public String parse(String json) {
+            return json;
+        }
+    };
+
+    @TempDir
+    Path directory;
+    ReplayMndDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path dump = directory.resolve("dump.json");
+        Files.write(dump, MndFixtures.page(TOTAL_COUNT, 1, TOTAL_COUNT).getBytes(StandardCharsets.UTF_8));
+
+        dataSource = new ReplayMndDataSource();
+        dataSource.setPath(dump.toString());
+        dataSource.setLatency(0);
+        dataSource.setMaxPageSize(10);
+    }
+
+    @Test
+    @DisplayName("녹화된 데이터에서 요청 구간만 응답")
+    public void requestRange() throws Exception {
+        assertThat(dataSource.request(11, 20, RAW)).isEqualTo(MndFixtures.page(TOTAL_COUNT, 11, 20));
+        assertThat(dataSource.request(91, 100, RAW)).isEqualTo(MndFixtures.page(TOTAL_COUNT, 91, 95));
+        assertThat(dataSource.request(1, 1, new TotalCountParser())).isEqualTo(TOTAL_COUNT);
+    }
+
+    @Test
+    @DisplayName("최대 페이지 크기를 넘는 요청은 실패")
+    public void exceedMaxPageSize() throws Exception {
+        assertThrows(MndReplayPageSizeException.class, () -> dataSource.request(1, 11, RAW));
+    }
+
+    @Test
+    @DisplayName("녹화된 데이터로 전체 구간 조회")
+    public void parseByPage() throws Exception {
+        MndApi api = new MndApi(dataSource);
+        api.setPageSize(10);
+        api.setThreads(2);
+        api.setMaxAttempts(1);
+
+        List<MndMealDTO> result = new ArrayList<>();
+        api.parseByPage(new MndStreamingDataParser(), result::addAll);
+
+        assertThat(result).hasSize(TOTAL_COUNT);
+    }
+}
@@ -0,0 +1,118 @@
+package military.menu.review.mnd.importer;
+
+import military.menu.review.common.MndFixtures;
+import military.menu.review.domain.meal.Meal;
+import military.menu.review.domain.meal.MealProjection;
+import military.menu.review.domain.meal.MealRepository;
+import military.menu.review.domain.meal.MealType;
+import military.menu.review.domain.menu.Menu;
+import military.menu.review.domain.menu.MenuRepository;
+import military.menu.review.mnd.api.parser.MndStreamingDataParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class MndImporterTest {
+    static final int ROW_COUNT = 23;
+
+    @Autowired
+    MndImporter importer;
+    @Autowired
+    MenuRepository menuRepository;
+    @Autowired
+    MealRepository mealRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    List<MealProjection> projections;
+
+    @BeforeEach
+    void setUp() {
+        importer.setBatchSize(10);
+    }
+
+    @Test
+    @DisplayName("정해진 크기 단위로 메뉴, 식단, 선택 메뉴 저장")
+    public void importInChunks() throws Exception {
+        MndImportResult result = importRows();
+
+        assertThat(result.getRows()).isEqualTo(ROW_COUNT);
+        assertThat(result.getInsertedMenus()).isEqualTo(ROW_COUNT + 7);
+        assertThat(result.getInsertedMeals()).isEqualTo(10);
+        assertThat(result.getInsertedSelectedMenus()).isEqualTo(ROW_COUNT * 2);
+        assertThat(result.getChunks()).isEqualTo(5);
+        assertThat(count("menu")).isEqualTo(ROW_COUNT + 7);
+        assertThat(count("meal")).isEqualTo(10);
+        assertThat(count("selected_menu")).isEqualTo(ROW_COUNT * 2);
+        assertThat(count("meal_menu_view")).isEqualTo(ROW_COUNT * 2);
+        assertThat(count("daily_nutrition")).isEqualTo(jdbcTemplate.queryForObject("select count(distinct date) from meal", Long.class));
+    }
+
+    @Test
+    @DisplayName("이미 존재하는 메뉴와 식단은 다시 저장하지 않음")
+    public void reuseExistingMenuAndMeal() throws Exception {
+        Menu menu = menuRepository.save(Menu.of("점심1", 200.0));
+        Meal meal = mealRepository.save(Meal.of(MndFixtures.FIRST_DATE, MealType.LUNCH));
+
+        MndImportResult result = importRows();
+
+        assertThat(result.getInsertedMenus()).isEqualTo(ROW_COUNT + 6);
+        assertThat(result.getInsertedMeals()).isEqualTo(9);
+        assertThat(menuRepository.findByName("점심1").getId()).isEqualTo(menu.getId());
+        assertThat(jdbcTemplate.queryForObject("select count(*) from selected_menu where meal_id = ?", Long.class, meal.getId()))
+                .isEqualTo(MndFixtures.ROWS_PER_DAY);
+    }
+
+    @Test
+    @DisplayName("다시 가져올 때 더 이상 제공되지 않는 선택 메뉴 삭제")
+    public void reconcileStaleSelectedMenus() throws Exception {
+        importRows();
+        Menu stale = menuRepository.save(Menu.of("단종메뉴", 100.0));
+        Meal dinner = mealRepository.save(Meal.of(MndFixtures.FIRST_DATE, MealType.DINNER));
+        long lunchId = jdbcTemplate.queryForObject("select meal_id from meal where date = ? and meal_type = ?", Long.class,
+                MndFixtures.FIRST_DATE, MealType.LUNCH.name());
+        insertSelectedMenu(lunchId, stale.getId());
+        insertSelectedMenu(dinner.getId(), stale.getId());
+        projections.forEach(projection -> projection.refresh(Arrays.asList(lunchId, dinner.getId())));
+        assertThat(count("meal_menu_view")).isEqualTo(ROW_COUNT * 2 + 2);
+
+        MndImportResult result = importRows(true);
+
+        assertThat(result.getInsertedSelectedMenus()).isEqualTo(0);
+        assertThat(result.getDeletedSelectedMenus()).isEqualTo(2);
+        assertThat(result.getChangedMeals()).isEqualTo(2);
+        assertThat(count("selected_menu")).isEqualTo(ROW_COUNT * 2);
+        assertThat(count("meal_menu_view")).isEqualTo(ROW_COUNT * 2);
+    }
+
+    private void insertSelectedMenu(long mealId, long menuId) {
+        jdbcTemplate.update("insert into selected_menu (meal_id, menu_id) values (?, ?)", mealId, menuId);
+    }
+
+    private MndImportResult importRows() {
+        return importRows(false);
+    }
+
+    private MndImportResult importRows(boolean reconcile) {
+        MndImportSession session = importer.open(reconcile);
+        new MndStreamingDataParser().parse(MndFixtures.page(ROW_COUNT, 1, ROW_COUNT), session::add);
+        return session.finish();
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table, Long.class);
+    }
+}
@@ -0,0 +1,108 @@
+package military.menu.review.mnd.sync;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import military.menu.review.common.MndStubServer;
+import military.menu.review.mnd.api.MndApi;
+import military.menu.review.mnd.api.source.HttpMndDataSource;
+import military.menu.review.mnd.importer.MndImportResult;
+import military.menu.review.mnd.importer.MndImporter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.RestTemplate;
+
+
+import static military.menu.review.common.MndFixtures.date;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class MndSyncServiceTest {
+    @Autowired
+    MndImporter importer;
+    @Autowired
+    MndSyncStateRepository syncStateRepository;
+    @Autowired
+    ApplicationEventPublisher eventPublisher;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    MndStubServer server;
+    MndSyncService syncService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new MndStubServer(40).start();
+
+        HttpMndDataSource dataSource = new HttpMndDataSource(new RestTemplate(), new SimpleMeterRegistry());
+        dataSource.setBaseUrl(server.baseUrl());
+        MndApi api = new MndApi(dataSource);
+        api.setPageSize(10);
+        api.setThreads(2);
+        api.setMaxAttempts(1);
+        syncService = new MndSyncService(api, importer, syncStateRepository, eventPublisher);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    @DisplayName("마지막으로 가져온 이후의 행만 가져오기")
+    public void syncOnlyNewRows() throws Exception {
+        syncService.sync();
+        server.clearRequests();
+        server.setTotalCount(47);
+
+        MndImportResult result = syncService.sync();
+
+        assertThat(result.getRows()).isEqualTo(7);
+        assertThat(server.requestedRanges()).containsExactlyInAnyOrder("1/1", "41/47");
+        assertThat(count("selected_menu")).isEqualTo(47 * 2);
+
+        MndSyncState state = syncStateRepository.findAll().get(0);
+        assertThat(state.getLastIndex()).isEqualTo(47);
+        assertThat(state.getLastDate()).isEqualTo(date(47));
+    }
+
+    @Test
+    @DisplayName("새로운 행이 없으면 가져오지 않음")
+    public void syncWithoutNewRows() throws Exception {
+        syncService.sync();
+        server.clearRequests();
+
+        MndImportResult result = syncService.sync();
+
+        assertThat(result.getRows()).isEqualTo(0);
+        assertThat(server.requestedRanges()).containsExactly("1/1");
+    }
+
+    @Test
+    @DisplayName("다시 전체를 가져와도 선택 메뉴는 중복되지 않음")
+    public void reloadIsIdempotent() throws Exception {
+        syncService.sync();
+
+        MndImportResult result = syncService.reload();
+
+        assertThat(result.getRows()).isEqualTo(40);
+        assertThat(result.getInsertedMenus()).isEqualTo(0);
+        assertThat(result.getInsertedMeals()).isEqualTo(0);
+        assertThat(result.getInsertedSelectedMenus()).isEqualTo(0);
+        assertThat(result.getDeletedSelectedMenus()).isEqualTo(0);
+        assertThat(result.getChangedMeals()).isEqualTo(0);
+        assertThat(count("selected_menu")).isEqualTo(40 * 2);
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table, Long.class);
+    }
+}
@@ -0,0 +1,184 @@
+package military.menu.review.ui.like;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.net.HttpHeaders;
+import military.menu.review.application.like.LikeAction;
+import military.menu.review.application.like.LikeCounter;
+import military.menu.review.application.like.LikeService;
+import military.menu.review.application.member.MemberService;
+import military.menu.review.common.RestDocsConfiguration;
+import military.menu.review.domain.like.LikeRepository;
+import military.menu.review.domain.member.Member;
+import military.menu.review.domain.member.MemberType;
+import military.menu.review.domain.menu.Menu;
+import military.menu.review.domain.menu.MenuRepository;
+import military.menu.review.security.LoginRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.linkWithRel;
+import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.links;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@AutoConfigureRestDocs
+@Transactional
+@Import(RestDocsConfiguration.class)
+public class LikeBatchControllerTest {
+    @Autowired
+    MenuRepository menuRepository;
+    @Autowired
+    MemberService memberService;
+    @Autowired
+    LikeService likeService;
+    @Autowired
+    LikeRepository likeRepository;
+    @Autowired
+    LikeCounter likeCounter;
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    ObjectMapper objectMapper;
+
+    static final String USERNAME = "wilgur513";
+    static final String PASSWORD = "pass";
+    Menu menu1, menu2, menu3;
+    Member member;
+
+    @BeforeEach
+    void setUp() {
+        menu1 = menuRepository.save(Menu.of("a", 1.0));
+        menu2 = menuRepository.save(Menu.of("b", 2.0));
+        menu3 = menuRepository.save(Menu.of("c", 3.0));
+        member = Member.of(USERNAME, PASSWORD, "정진혁", MemberType.SOLDIER);
+        memberService.join(member);
+    }
+
+    @Test
+    @DisplayName("여러 메뉴의 좋아요를 한 번에 설정 및 해제")
+    public void batchLike() throws Exception {
+        likeService.like(member, menu2);
+        LikeBatchRequest request = new LikeBatchRequest(Arrays.asList(
+                new LikeOperationRequest(menu1.getId(), LikeAction.LIKE),
+                new LikeOperationRequest(menu2.getId(), LikeAction.CANCEL),
+                new LikeOperationRequest(menu3.getId(), LikeAction.CANCEL),
+                new LikeOperationRequest(menu1.getId() + 11111, LikeAction.LIKE)
+        ));
+
+        mockMvc.perform(post("/menus/likes/batch")
+                .header(HttpHeaders.AUTHORIZATION, getBearerToken(USERNAME, PASSWORD))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request))
+        )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.likeResultResponseList[*].result").value(contains("LIKED", "CANCELED", "NOT_LIKED", "MENU_NOT_FOUND")))
+                .andDo(document("batch-like",
+                        links(
+                                linkWithRel("self").description("현재 요청 링크"),
+                                linkWithRel("profile").description("profile 링크")
+                        ),
+                        requestHeaders(
+                                headerWithName(HttpHeaders.AUTHORIZATION).description("JWT 토큰 값")
+                        ),
+                        requestFields(
+                                fieldWithPath("operations[].menuId").description("메뉴 식별 번호"),
+                                fieldWithPath("operations[].action").description("LIKE(좋아요 설정) 또는 CANCEL(좋아요 해제)")
+                        ),
+                        responseFields(
+                                fieldWithPath("_embedded.likeResultResponseList[].menuId").description("메뉴 식별 번호"),
+                                fieldWithPath("_embedded.likeResultResponseList[].action").description("요청한 작업"),
+                                fieldWithPath("_embedded.likeResultResponseList[].result").description("처리 결과(LIKED, ALREADY_LIKED, CANCELED, NOT_LIKED, MENU_NOT_FOUND)"),
+                                fieldWithPath("_links.self.href").description("현재 요청 링크"),
+                                fieldWithPath("_links.profile.href").description("profile 링크")
+                        )
+                ))
+        ;
+
+        assertThat(likeRepository.findByMemberAndMenu(member, menu1)).isNotNull();
+        assertThat(likeRepository.findByMemberAndMenu(member, menu2)).isNull();
+        assertThat(likeCounter.likes(menu1)).isEqualTo(1);
+        assertThat(likeCounter.likes(menu2)).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("이미 좋아요를 누른 메뉴는 중복 반영하지 않고 나머지 메뉴는 반영")
+    public void batchLikeAlreadyLiked() throws Exception {
+        likeService.like(member, menu1);
+        LikeBatchRequest request = new LikeBatchRequest(Arrays.asList(
+                new LikeOperationRequest(menu1.getId(), LikeAction.LIKE),
+                new LikeOperationRequest(menu2.getId(), LikeAction.LIKE)
+        ));
+
+        mockMvc.perform(post("/menus/likes/batch")
+                .header(HttpHeaders.AUTHORIZATION, getBearerToken(USERNAME, PASSWORD))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request))
+        )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.likeResultResponseList[*].result").value(contains("ALREADY_LIKED", "LIKED")));
+
+        assertThat(likeRepository.findByMemberAndMenu(member, menu2)).isNotNull();
+        assertThat(likeCounter.likes(menu1)).isEqualTo(1);
+        assertThat(likeCounter.likes(menu2)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 메뉴에 대한 작업이 중복된 요청")
+    public void batchLikeDuplicateMenu() throws Exception {
+        LikeBatchRequest request = new LikeBatchRequest(Arrays.asList(
+                new LikeOperationRequest(menu1.getId(), LikeAction.LIKE),
+                new LikeOperationRequest(menu1.getId(), LikeAction.CANCEL)
+        ));
+
+        mockMvc.perform(post("/menus/likes/batch")
+                .header(HttpHeaders.AUTHORIZATION, getBearerToken(USERNAME, PASSWORD))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request))
+        )
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("로그인하지 않은 사용자의 일괄 좋아요 요청")
+    public void batchLikeAnonymous() throws Exception {
+        LikeBatchRequest request = new LikeBatchRequest(Arrays.asList(new LikeOperationRequest(menu1.getId(), LikeAction.LIKE)));
+
+        mockMvc.perform(post("/menus/likes/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request))
+        )
+                .andExpect(status().isUnauthorized());
+    }
+
+    private String getBearerToken(String username, String password) throws Exception {
+        return "Bearer " + mockMvc.perform(post("/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new LoginRequest(username, password)))
+        )
+                .andReturn().getResponse().getHeader(HttpHeaders.AUTHORIZATION);
+    }
+}
@@ -2,6 +2,7 @@ package military.menu.review.ui.like;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.net.HttpHeaders;
+import com.jayway.jsonpath.JsonPath;
 import military.menu.review.application.like.LikeService;
 import military.menu.review.application.member.MemberService;
 import military.menu.review.common.RestDocsConfiguration;
@@ -25,6 +26,13 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.restdocs.headers.HeaderDocumentation.*;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.linkWithRel;
@@ -238,6 +246,72 @@ public class LikeControllerTest {
         ;
     }
 
+    @Test
+    @DisplayName("좋아요 커서 조회")
+    public void scrollLikes() throws Exception {
+        generateLikes();
+        String body = mockMvc.perform(get("/menus/{menuId}/likes/scroll", menu1.getId())
+                .param("size", "3")
+        )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andDo(document("scroll-likes",
+                        links(
+                                linkWithRel("self").description("현재 페이지"),
+                                linkWithRel("next").description("다음 페이지(마지막 페이지에서는 없음)"),
+                                linkWithRel("profile").description("profile 링크")
+                        ),
+                        pathParameters(
+                                parameterWithName("menuId").description("메뉴 식별 번호")
+                        ),
+                        requestParameters(
+                                parameterWithName("size").description("한 번에 조회할 요소 개수"),
+                                parameterWithName("cursor").optional().description("다음 페이지 커서(next 링크에 포함)")
+                        ),
+                        responseFields(
+                                fieldWithPath("_embedded.likeResponseList[].id").description("좋아요 식별 번호"),
+                                fieldWithPath("_embedded.likeResponseList[].menuId").description("좋아요 누른 메뉴 식별 번호"),
+                                fieldWithPath("_embedded.likeResponseList[].memberId").description("좋아요 누른 사용자 식별 번호"),
+                                fieldWithPath("_embedded.likeResponseList[].dateTime").description("좋아요 누른 시간"),
+                                fieldWithPath("_embedded.likeResponseList[]._links.self.href").description("self 링크"),
+                                fieldWithPath("_links.self.href").description("현재 페이지"),
+                                fieldWithPath("_links.next.href").description("다음 페이지"),
+                                fieldWithPath("_links.profile.href").description("profile 링크")
+                        )
+                ))
+                .andReturn().getResponse().getContentAsString();
+
+        List<Integer> ids = new ArrayList<>();
+        while(true) {
+            ids.addAll(JsonPath.read(body, "$._embedded.likeResponseList[*].id"));
+            Map<String, Object> links = JsonPath.read(body, "$._links");
+            if(!links.containsKey("next")) {
+                break;
+            }
+            body = mockMvc.perform(get(URI.create(JsonPath.read(body, "$._links.next.href"))))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+        }
+
+        List<Integer> expected = likeRepository.findAll().stream()
+                .filter(like -> like.getMenu().equals(menu1))
+                .sorted(Comparator.comparing(Like::getDateTime).thenComparing(Like::getId).reversed())
+                .map(like -> like.getId().intValue())
+                .collect(Collectors.toList());
+        assertThat(ids).hasSize(10).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 좋아요 커서 조회 시 실패")
+    public void scrollLikesWithInvalidCursor() throws Exception {
+        mockMvc.perform(get("/menus/{menuId}/likes/scroll", menu1.getId())
+                .param("cursor", "invalid")
+        )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+        ;
+    }
+
     @Test
     @DisplayName("존재하지 않는 메뉴에서 좋아요 페이지 조회 시 실패")
     public void queryLikesNotExistMenu() throws Exception {
@@ -11,6 +11,8 @@ import military.menu.review.domain.member.Member;
 import military.menu.review.domain.member.MemberType;
 import military.menu.review.domain.menu.Menu;
 import military.menu.review.domain.menu.MenuRepository;
+import military.menu.review.infra.meal.DailyNutritionProjector;
+import military.menu.review.infra.meal.MealMenuViewProjector;
 import military.menu.review.security.LoginRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -67,6 +69,10 @@ public class MealControllerTest {
     MemberService memberService;
     @Autowired
     ObjectMapper objectMapper;
+    @Autowired
+    DailyNutritionProjector dailyNutritionProjector;
+    @Autowired
+    MealMenuViewProjector mealMenuViewProjector;
 
     List<Menu> menus;
     List<Meal> meals;
@@ -120,6 +126,7 @@ public class MealControllerTest {
                                 fieldWithPath("meals[].id").description("식단표 식별 번호"),
                                 fieldWithPath("meals[].date").description("식단 날짜"),
                                 fieldWithPath("meals[].mealType").description("식단 종류(아침, 점심, 저녁)"),
+                                fieldWithPath("meals[].kcal").description("식단 총 칼로리"),
                                 fieldWithPath("meals[].menus[].id").description("메뉴 식별 번호"),
                                 fieldWithPath("meals[].menus[].name").description("메뉴 이름"),
                                 fieldWithPath("meals[].menus[].kcal").description("메뉴 칼로리"),
@@ -155,6 +162,33 @@ public class MealControllerTest {
         ;
     }
 
+    @Test
+    @DisplayName("변경되지 않은 주간 식단표는 Not Modified")
+    public void queryNotModifiedMeals() throws Exception {
+        saveMeals();
+        String token = getBearerToken(USERNAME, PASSWORD);
+
+        String eTag = mockMvc.perform(get("/meals").header(HttpHeaders.AUTHORIZATION, token)
+                .param("year", "2021").param("month", "9").param("week", "1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/meals").header(HttpHeaders.AUTHORIZATION, token).header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .param("year", "2021").param("month", "9").param("week", "1"))
+                .andDo(print())
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(get("/meals").header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .param("year", "2021").param("month", "9").param("week", "1"))
+                .andExpect(status().isOk());
+
+        likeService.like(member, menus.get(1));
+
+        mockMvc.perform(get("/meals").header(HttpHeaders.AUTHORIZATION, token).header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .param("year", "2021").param("month", "9").param("week", "1"))
+                .andExpect(status().isOk());
+    }
+
     @Test
     @DisplayName("미 로그인 시 식단표 단건 조회")
     public void queryMeal() throws Exception {
@@ -166,6 +200,7 @@ public class MealControllerTest {
         menuRepository.save(menu2);
         selectedMenuRepository.save(SelectedMenu.of(meal, menu1));
         selectedMenuRepository.save(SelectedMenu.of(meal, menu2));
+        projectMeals();
 
         mockMvc.perform(get("/meals/{id}", meal.getId()))
                 .andDo(print())
@@ -188,6 +223,7 @@ public class MealControllerTest {
                                 fieldWithPath("id").description("식단 식별 번호"),
                                 fieldWithPath("date").description("식단 일자"),
                                 fieldWithPath("mealType").description("식단 유형(아침, 점심, 저녁)"),
+                                fieldWithPath("kcal").description("식단 총 칼로리"),
                                 fieldWithPath("menus[].id").description("메뉴 식별 번호"),
                                 fieldWithPath("menus[].name").description("메뉴 이름"),
                                 fieldWithPath("menus[].kcal").description("메뉴 칼로리"),
@@ -210,6 +246,91 @@ public class MealControllerTest {
         ;
     }
 
+    @Test
+    @DisplayName("월 단위 식단표 조회")
+    public void queryMealsByMonth() throws Exception {
+        saveMeals();
+
+        mockMvc.perform(get("/meals/range")
+                .header(HttpHeaders.AUTHORIZATION, getBearerToken(USERNAME, PASSWORD))
+                .param("year", "2021")
+                .param("month", "9")
+        )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("from").value("2021-09-06"))
+                .andExpect(jsonPath("to").value("2021-10-03"))
+                .andExpect(jsonPath("days[0].date").value("2021-09-06"))
+                .andExpect(jsonPath("days[0].meals[0].id").value(meals.get(0).getId()))
+                .andExpect(jsonPath("days[0].meals[0].menus[0].liked").value(true))
+                .andExpect(jsonPath("days[0].meals[1].id").value(meals.get(1).getId()))
+                .andExpect(jsonPath("days[0].meals[2].id").value(meals.get(2).getId()))
+                .andExpect(jsonPath("days[1].date").value("2021-09-07"))
+                .andExpect(jsonPath("days[1].meals[0].id").value(meals.get(3).getId()))
+        ;
+    }
+
+    @Test
+    @DisplayName("기간 단위 식단표 조회")
+    public void queryMealsByRange() throws Exception {
+        saveMeals();
+
+        mockMvc.perform(get("/meals/range")
+                .param("from", "2021-09-07")
+                .param("to", "2021-09-30")
+        )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("days.length()").value(1))
+                .andExpect(jsonPath("days[0].meals[0].id").value(meals.get(3).getId()))
+                .andExpect(jsonPath("days[0].meals[0].menus[0].liked").doesNotExist())
+                .andDo(document("query-meals-range",
+                        requestParameters(
+                                parameterWithName("from").description("조회 시작 일자(year, month 대신 사용)"),
+                                parameterWithName("to").description("조회 종료 일자(최대 " + RangeRequest.MAX_DAYS + "일)")
+                        ),
+                        responseFields(
+                                fieldWithPath("from").description("조회 시작 일자"),
+                                fieldWithPath("to").description("조회 종료 일자"),
+                                fieldWithPath("days[].date").description("식단 날짜"),
+                                fieldWithPath("days[].meals[].id").description("식단표 식별 번호"),
+                                fieldWithPath("days[].meals[].mealType").description("식단 종류(아침, 점심, 저녁)"),
+                                fieldWithPath("days[].meals[].kcal").description("식단 총 칼로리"),
+                                fieldWithPath("days[].meals[].menus[].id").description("메뉴 식별 번호"),
+                                fieldWithPath("days[].meals[].menus[].name").description("메뉴 이름"),
+                                fieldWithPath("days[].meals[].menus[].kcal").description("메뉴 칼로리"),
+                                fieldWithPath("days[].meals[].menus[].like").description("메뉴 좋아요"),
+                                fieldWithPath("_links.self.href").description("self 링크"),
+                                fieldWithPath("_links.profile.href").description("profile 링크")
+                        )
+                ))
+        ;
+    }
+
+    @Test
+    @DisplayName("잘못된 기간 입력 시 BadRequest")
+    public void wrongRangeValue() throws Exception {
+        mockMvc.perform(get("/meals/range")
+                .param("from", "2021-09-01")
+                .param("to", "2021-12-01")
+        )
+                .andExpect(status().isBadRequest())
+        ;
+
+        mockMvc.perform(get("/meals/range")
+                .param("from", "2021-09-10")
+                .param("to", "2021-09-01")
+        )
+                .andExpect(status().isBadRequest())
+        ;
+
+        mockMvc.perform(get("/meals/range")
+                .param("year", "2021")
+        )
+                .andExpect(status().isBadRequest())
+        ;
+    }
+
     @Test
     @DisplayName("잘못된 년,월,주 입력 시 BadRequest")
     public void wrongWeekValue() throws Exception {
@@ -232,6 +353,74 @@ public class MealControllerTest {
         ;
     }
 
+    @Test
+    @DisplayName("기간별 칼로리 합계를 일별, 주별로 조회")
+    public void queryNutrition() throws Exception {
+        saveMeals();
+        selectedMenuRepository.flush();
+        dailyNutritionProjector.rebuild();
+
+        mockMvc.perform(get("/meals/nutrition")
+                .param("from", "2021-09-06")
+                .param("to", "2021-09-12")
+                .param("unit", "DAY")
+        )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.nutritionResponseList[0].start").value("2021-09-06"))
+                .andExpect(jsonPath("_embedded.nutritionResponseList[0].breakfastKcal").value(1.0))
+                .andExpect(jsonPath("_embedded.nutritionResponseList[0].lunchKcal").value(3.0))
+                .andExpect(jsonPath("_embedded.nutritionResponseList[0].dinnerKcal").value(2.0))
+                .andExpect(jsonPath("_embedded.nutritionResponseList[0].totalKcal").value(6.0))
+                .andExpect(jsonPath("_embedded.nutritionResponseList[1].start").value("2021-09-07"))
+                .andExpect(jsonPath("_embedded.nutritionResponseList[1].totalKcal").value(3.0))
+                .andDo(document("query-meals-nutrition",
+                        links(
+                                linkWithRel("self").description("self 링크"),
+                                linkWithRel("profile").description("profile 링크")
+                        ),
+                        requestParameters(
+                                parameterWithName("year").optional().description("조회 년도(month와 함께 사용)"),
+                                parameterWithName("month").optional().description("조회 월(year와 함께 사용)"),
+                                parameterWithName("from").description("조회 시작 일자(year, month 대신 사용)"),
+                                parameterWithName("to").description("조회 종료 일자(최대 " + RangeRequest.MAX_DAYS + "일)"),
+                                parameterWithName("unit").description("합계 단위(DAY, WEEK). 식단이 없는 날은 결과와 합계에서 제외")
+                        ),
+                        responseFields(
+                                fieldWithPath("_embedded.nutritionResponseList[].start").description("합계 시작 일자(조회 기간 안으로 제한)"),
+                                fieldWithPath("_embedded.nutritionResponseList[].end").description("합계 종료 일자(조회 기간 안으로 제한)"),
+                                fieldWithPath("_embedded.nutritionResponseList[].breakfastKcal").description("아침 칼로리 합계"),
+                                fieldWithPath("_embedded.nutritionResponseList[].lunchKcal").description("점심 칼로리 합계"),
+                                fieldWithPath("_embedded.nutritionResponseList[].dinnerKcal").description("저녁 칼로리 합계"),
+                                fieldWithPath("_embedded.nutritionResponseList[].totalKcal").description("전체 칼로리 합계"),
+                                fieldWithPath("_links.self.href").description("self 링크"),
+                                fieldWithPath("_links.profile.href").description("profile 링크")
+                        )
+                ))
+        ;
+
+        mockMvc.perform(get("/meals/nutrition")
+                .param("from", "2021-09-06")
+                .param("to", "2021-09-12")
+                .param("unit", "WEEK")
+        )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.nutritionResponseList.length()").value(1))
+                .andExpect(jsonPath("_embedded.nutritionResponseList[0].end").value("2021-09-12"))
+                .andExpect(jsonPath("_embedded.nutritionResponseList[0].totalKcal").value(9.0));
+
+        mockMvc.perform(get("/meals/nutrition")
+                .param("from", "2021-09-07")
+                .param("to", "2021-09-10")
+                .param("unit", "WEEK")
+        )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.nutritionResponseList.length()").value(1))
+                .andExpect(jsonPath("_embedded.nutritionResponseList[0].start").value("2021-09-07"))
+                .andExpect(jsonPath("_embedded.nutritionResponseList[0].end").value("2021-09-10"))
+                .andExpect(jsonPath("_embedded.nutritionResponseList[0].totalKcal").value(3.0));
+    }
+
     private void saveMeals() {
         menus = Arrays.asList(
                 Menu.of("a", 1.0), Menu.of("b", 2.0)
@@ -258,9 +447,15 @@ public class MealControllerTest {
             }
         }
 
+        projectMeals();
         likeService.like(member, menus.get(0));
     }
 
+    private void projectMeals() {
+        selectedMenuRepository.flush();
+        mealMenuViewProjector.rebuild();
+    }
+
     private String getBearerToken(String username, String password) throws Exception {
         return "Bearer " + mockMvc.perform(post("/login")
                 .contentType(MediaType.APPLICATION_JSON)
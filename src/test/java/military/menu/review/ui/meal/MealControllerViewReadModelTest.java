@@ -0,0 +1,7 @@
+package military.menu.review.ui.meal;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "meal.readModel=view")
+public class MealControllerViewReadModelTest extends MealControllerTest {
+}
@@ -1,8 +1,11 @@
 package military.menu.review.ui.menu;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
 import com.google.common.net.HttpHeaders;
+import military.menu.review.application.like.LikeCountFlusher;
 import military.menu.review.application.like.LikeService;
+import military.menu.review.application.menu.MenuLeaderboard;
 import military.menu.review.common.RestDocsConfiguration;
 import military.menu.review.domain.member.MemberType;
 import military.menu.review.domain.member.Member;
@@ -23,9 +26,18 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.net.URI;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.linkWithRel;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.links;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
@@ -34,6 +46,7 @@ import static org.springframework.restdocs.request.RequestDocumentation.*;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -55,10 +68,15 @@ public class MenuControllerTest {
 
     @Autowired
     LikeService likeService;
+    @Autowired
+    LikeCountFlusher likeCountFlusher;
 
     @Autowired
     ObjectMapper objectMapper;
 
+    @Autowired
+    MenuLeaderboard menuLeaderboard;
+
     static final String USERNAME = "wilgur513";
     static final String PASSWORD = "pass";
     Member member;
@@ -273,6 +291,187 @@ public class MenuControllerTest {
         ;
     }
 
+    @Test
+    @DisplayName("변경되지 않은 메뉴는 Not Modified")
+    public void queryNotModifiedMenu() throws Exception {
+        String eTag = mockMvc.perform(get("/menus/{id}", menu.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.AUTHORIZATION)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/menus/{id}", menu.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+        likeService.like(member, menu);
+
+        mockMvc.perform(get("/menus/{id}", menu.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)));
+    }
+
+    @Test
+    @DisplayName("커서로 10개 메뉴를 3개씩 이어서 조회")
+    public void scrollMenus() throws Exception {
+        saveMenus();
+
+        String body = mockMvc.perform(get("/menus/scroll")
+                .param("size", "3")
+                .param("sort", "name,ASC")
+        )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andDo(document("query-menus-scroll",
+                        links(
+                                linkWithRel("self").description("현재 페이지"),
+                                linkWithRel("next").description("다음 페이지"),
+                                linkWithRel("profile").description("profile URI")
+                        ),
+                        requestParameters(
+                                parameterWithName("size").description("페이지 당 메뉴 개수"),
+                                parameterWithName("sort").description("정렬 옵션(name, likes)")
+                        ),
+                        responseFields(
+                                fieldWithPath("_embedded.menuResponseList[].name").description("메뉴 이름"),
+                                fieldWithPath("_embedded.menuResponseList[].kcal").description("메뉴 칼로리"),
+                                fieldWithPath("_embedded.menuResponseList[].like").description("메뉴 좋아요 개수"),
+                                fieldWithPath("_embedded.menuResponseList[].id").description("메뉴 식별 번호"),
+                                fieldWithPath("_embedded.menuResponseList[]._links.self.href").description("메뉴 개별 조회 링크"),
+                                fieldWithPath("_links.self.href").description("현재 페이지"),
+                                fieldWithPath("_links.next.href").description("다음 페이지(cursor 포함)"),
+                                fieldWithPath("_links.profile.href").description("profile URI")
+                        )
+                ))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrollNames(body)).containsExactly("a", "b", "c", "d", "e", "f", "g", "h", "i", "j");
+    }
+
+    @Test
+    @DisplayName("좋아요 수 내림차순 커서 조회")
+    public void scrollMenusByLikes() throws Exception {
+        saveMenus();
+        likeService.like(member, menuRepository.findByName("e"));
+        likeService.like(member, menuRepository.findByName("h"));
+        Member other = memberService.join(Member.of("other", PASSWORD, "", MemberType.SOLDIER));
+        likeService.like(other, menuRepository.findByName("h"));
+        menuRepository.flush();
+        likeCountFlusher.flush();
+
+        String body = mockMvc.perform(get("/menus/scroll")
+                .param("size", "4")
+                .param("sort", "likes,DESC")
+        )
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        List<String> names = scrollNames(body);
+        assertThat(names).hasSize(10).doesNotHaveDuplicates();
+        assertThat(names.subList(0, 2)).containsExactly("h", "e");
+    }
+
+    @Test
+    @DisplayName("여러 메뉴를 좋아요 여부와 함께 한 번에 조회")
+    public void queryMenusByIds() throws Exception {
+        saveMenus();
+        Menu b = menuRepository.findByName("b");
+        Menu c = menuRepository.findByName("c");
+        likeService.like(member, c);
+
+        mockMvc.perform(get("/menus")
+                .header(HttpHeaders.AUTHORIZATION, getBearerToken(USERNAME, PASSWORD))
+                .param("ids", c.getId() + "," + menu.getId() + "," + b.getId())
+        )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.menuResponseList[*].name").value(contains("c", "a", "b")))
+                .andExpect(jsonPath("_embedded.menuResponseList[0]._links.cancel-like.href").exists())
+                .andExpect(jsonPath("_embedded.menuResponseList[1]._links.like.href").exists())
+                .andDo(document("query-menus-by-ids",
+                        links(
+                                linkWithRel("self").description("현재 페이지"),
+                                linkWithRel("profile").description("profile URI")
+                        ),
+                        requestParameters(
+                                parameterWithName("ids").description("조회할 메뉴 식별 번호 목록(최대 50개)")
+                        ),
+                        relaxedResponseFields(
+                                fieldWithPath("_embedded.menuResponseList[].name").description("메뉴 이름"),
+                                fieldWithPath("_embedded.menuResponseList[].kcal").description("메뉴 칼로리"),
+                                fieldWithPath("_embedded.menuResponseList[].like").description("메뉴 좋아요 개수"),
+                                fieldWithPath("_embedded.menuResponseList[].id").description("메뉴 식별 번호"),
+                                fieldWithPath("_embedded.menuResponseList[]._links.self.href").description("메뉴 개별 조회 링크"),
+                                fieldWithPath("_links.self.href").description("현재 페이지"),
+                                fieldWithPath("_links.profile.href").description("profile URI")
+                        )
+                ))
+        ;
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘는 메뉴 여러 건 조회")
+    public void queryTooManyMenusByIds() throws Exception {
+        String ids = LongStream.rangeClosed(1, 51).mapToObj(String::valueOf).collect(Collectors.joining(","));
+
+        mockMvc.perform(get("/menus").param("ids", ids))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("좋아요가 많은 메뉴 순으로 인기 메뉴 조회")
+    public void queryPopularMenus() throws Exception {
+        saveMenus();
+        likeService.like(member, menuRepository.findByName("c"));
+        menuRepository.flush();
+        menuLeaderboard.rebuild();
+
+        mockMvc.perform(get("/menus/popular")
+                .param("size", "3")
+        )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.menuResponseList[0].name").value("c"))
+                .andExpect(jsonPath("_embedded.menuResponseList[0].like").value(1))
+                .andExpect(jsonPath("_embedded.menuResponseList.length()").value(3))
+                .andDo(document("query-popular-menus",
+                        links(
+                                linkWithRel("self").description("현재 페이지"),
+                                linkWithRel("profile").description("profile URI")
+                        ),
+                        requestParameters(
+                                parameterWithName("size").description("조회할 메뉴 개수(최대 100)"),
+                                parameterWithName("mealType").optional().description("식사 종류(BREAKFAST, LUNCH, DINNER), 없으면 전체")
+                        ),
+                        responseFields(
+                                fieldWithPath("_embedded.menuResponseList[].name").description("메뉴 이름"),
+                                fieldWithPath("_embedded.menuResponseList[].kcal").description("메뉴 칼로리"),
+                                fieldWithPath("_embedded.menuResponseList[].like").description("메뉴 좋아요 개수"),
+                                fieldWithPath("_embedded.menuResponseList[].id").description("메뉴 식별 번호"),
+                                fieldWithPath("_embedded.menuResponseList[]._links.self.href").description("메뉴 개별 조회 링크"),
+                                fieldWithPath("_links.self.href").description("현재 페이지"),
+                                fieldWithPath("_links.profile.href").description("profile URI")
+                        )
+                ))
+        ;
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 정렬 옵션으로 조회")
+    public void unsupportedSort() throws Exception {
+        mockMvc.perform(get("/menus").param("sort", "menu_id,ASC"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/menus/scroll").param("sort", "kcal;drop table menu,ASC"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 조회")
+    public void scrollWithInvalidCursor() throws Exception {
+        mockMvc.perform(get("/menus/scroll").param("cursor", "invalid"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("존재하지 않는 메뉴 조회하기")
     public void queryEmptyMenu() throws Exception {
@@ -281,6 +480,20 @@ public class MenuControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    private List<String> scrollNames(String body) throws Exception {
+        List<String> names = new ArrayList<>();
+        while(true) {
+            names.addAll(JsonPath.read(body, "$._embedded.menuResponseList[*].name"));
+            Map<String, Object> links = JsonPath.read(body, "$._links");
+            if(!links.containsKey("next")) {
+                return names;
+            }
+            body = mockMvc.perform(get(URI.create(JsonPath.read(body, "$._links.next.href"))))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+        }
+    }
+
     private void saveMenus() {
         List<Menu> menus = Arrays.asList(
                 Menu.of("b", 2.0), Menu.of("c", 3.0),